@@ -0,0 +1,34 @@
+package com.leun.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.leun.auth.dto.AuthDto;
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.entity.User.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class AuthResponseSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private AuthDto.Response response;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRET, 3_600_000L, 86_400_000L);
+        writer = new ObjectMapper().writerFor(AuthDto.Response.class);
+        response = new AuthDto.Response(
+            "Bench User",
+            "https://example.com/profile.png",
+            jwtUtil.generateAccessToken(JwtUtilBenchmark.EMAIL, 1L, UserRole.ROLE_USER, 0L),
+            jwtUtil.generateRefreshToken(JwtUtilBenchmark.EMAIL));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,66 @@
+package com.leun.benchmark;
+
+import com.leun.auth.filter.JwtAuthenticationFilter;
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.entity.User.UserRole;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+// DB 조회는 고정 UserDetails를 돌려주는 스텁으로 대체해 필터 자체의 비용만 측정한다.
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean claimsOnlyAuthentication;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRET, 3_600_000L, 86_400_000L);
+        UserDetails userDetails = User.withUsername(JwtUtilBenchmark.EMAIL)
+            .password("encodedPassword")
+            .authorities(UserRole.ROLE_USER.name())
+            .build();
+        UserDetailsService userDetailsService = username -> userDetails;
+
+        AccessTokenRevocationList revocationList = new AccessTokenRevocationList(null, jwtUtil,
+            100_000, 0.001, 1000, Duration.ofSeconds(5));
+        TokenVersionRegistry tokenVersionRegistry = new TokenVersionRegistry(null, jwtUtil,
+            Duration.ofSeconds(5));
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+            tokenVersionRegistry, claimsOnlyAuthentication);
+        authorizationHeader = "Bearer " + jwtUtil.generateAccessToken(JwtUtilBenchmark.EMAIL,
+            1L, UserRole.ROLE_USER, 0L);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/user/profile");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,46 @@
+package com.leun.benchmark;
+
+import com.leun.auth.util.JwtClaims;
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.entity.User.UserRole;
+import java.util.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "thisisbenchmarksecretkeyforjwtauthenticationanditissolongenough";
+    static final String EMAIL = "bench@example.com";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 86_400_000L);
+        accessToken = jwtUtil.generateAccessToken(EMAIL, 1L, UserRole.ROLE_USER, 0L);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(EMAIL, 1L, UserRole.ROLE_USER, 0L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(accessToken);
+    }
+
+    @Benchmark
+    public Optional<JwtClaims> parseToken() {
+        return jwtUtil.parseToken(accessToken);
+    }
+}
@@ -17,6 +17,12 @@ public class OAuthConfig {
     @Value("${spring.security.oauth2.client.registration.google.redirect-uri}")
     private String googleRedirectUri;
 
+    @Value("${spring.security.oauth2.client.registration.google.token-uri:https://oauth2.googleapis.com/token}")
+    private String googleTokenUri;
+
+    @Value("${spring.security.oauth2.client.registration.google.certs-uri:https://www.googleapis.com/oauth2/v1/certs}")
+    private String googleCertsUri;
+
     @Value("${spring.security.oauth2.client.registration.naver.client-id}")
     private String naverClientId;
 
@@ -0,0 +1,43 @@
+package com.leun.auth.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// OAuth 공급자 호출용 HTTP 클라이언트.
+// JDK HttpClient가 호스트별 커넥션을 재사용하고 가능한 경우 HTTP/2로 통신한다.
+// RestTemplateBuilder로 만들어야 http.client.requests 메트릭이 엔드포인트별로 기록된다.
+@Configuration
+public class OAuthHttpClientConfiguration {
+
+    @Bean
+    public HttpClient oauthHttpClient(
+        @Value("${oauth.http-client.connect-timeout:2s}") Duration connectTimeout,
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NEVER);
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, HttpClient oauthHttpClient,
+        @Value("${oauth.http-client.read-timeout:5s}") Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+            oauthHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder
+            .requestFactory(() -> requestFactory)
+            .build();
+    }
+}
@@ -2,25 +2,28 @@ package com.leun.auth.config;
 
 
 import com.leun.auth.filter.JwtAuthenticationFilter;
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.service.CachedUserDetailsService;
 import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.util.BoundedPasswordEncoder;
+import com.leun.auth.util.CalibratedBCryptPasswordEncoder;
 import com.leun.auth.util.JwtUtil;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -31,9 +34,15 @@ public class SecurityConfiguration {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    @Value("${jwt.claims-only-authentication:false}")
+    private boolean claimsOnlyAuthentication;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+        CachedUserDetailsService cachedUserDetailsService) throws Exception {
         http
             .httpBasic(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -52,12 +61,13 @@ public class SecurityConfiguration {
                     "/v1/auth/naver/login",
                     "/v1/auth/refresh-token",
                     "/v1/auth/logout",
+                    "/.well-known/jwks.json",
                     "/swagger-ui.html",
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
                     "/v3/api-docs.yaml"
                 ).permitAll()
-                .requestMatchers("/v1/admin/**").hasRole("ADMIN")
+                .requestMatchers("/v1/admin/**", "/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated())
 
             .exceptionHandling(exceptions -> exceptions
@@ -66,7 +76,8 @@ public class SecurityConfiguration {
             )
 
             .addFilterBefore(
-                new JwtAuthenticationFilter(jwtUtil, userDetailsService),
+                new JwtAuthenticationFilter(jwtUtil, cachedUserDetailsService,
+                    accessTokenRevocationList, tokenVersionRegistry, claimsOnlyAuthentication),
                 UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -101,18 +112,29 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    public PasswordEncoder passwordEncoder(
+        @Value("${auth.password-hashing.threads:0}") int threads,
+        @Value("${auth.password-hashing.queue-capacity:100}") int queueCapacity,
+        @Value("${auth.password-hashing.bcrypt.strength:0}") int strength,
+        @Value("${auth.password-hashing.bcrypt.target-duration:50ms}") Duration targetDuration,
+        @Value("${auth.password-hashing.bcrypt.min-strength:10}") int minStrength,
+        @Value("${auth.password-hashing.bcrypt.max-strength:16}") int maxStrength,
+        @Value("${auth.password-hashing.bcrypt.downgrade-tolerance:1}") int downgradeTolerance) {
 
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig)
-        throws Exception {
-        return authConfig.getAuthenticationManager();
+        CalibratedBCryptPasswordEncoder bcrypt = strength > 0
+            ? new CalibratedBCryptPasswordEncoder(strength, downgradeTolerance)
+            : CalibratedBCryptPasswordEncoder.calibrate(targetDuration, minStrength, maxStrength,
+                downgradeTolerance);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(bcrypt, poolSize, queueCapacity);
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CachedUserDetailsService cachedUserDetailsService(
+        @Value("${auth.user-details-cache.maximum-size:10000}") long maximumSize,
+        @Value("${auth.user-details-cache.ttl:5m}") Duration ttl,
+        @Value("${auth.user-details-cache.negative-ttl:30s}") Duration negativeTtl) {
+        return new CachedUserDetailsService(userDetailsService, maximumSize, ttl, negativeTtl);
     }
 }
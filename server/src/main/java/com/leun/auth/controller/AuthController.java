@@ -1,19 +1,21 @@
 package com.leun.auth.controller;
 
 import com.leun.auth.dto.AuthDto;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.AuthService;
+import com.leun.auth.service.RefreshTokenCoalescer;
 import com.leun.auth.service.RefreshTokenService;
 import jakarta.validation.Valid;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -24,24 +26,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
-    private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCoalescer refreshTokenCoalescer;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody AuthDto.Request request) throws Exception {
         log.debug("Log: /login login user");
         try {
-            authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-            );
+            AuthDto.Response response = authService.login(request);
+            return ResponseEntity.ok(response);
         } catch (AuthenticationException ex) {
             return ResponseEntity
                 .status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of("message", "Invalid email or password"));
         }
-
-        AuthDto.Response response = authService.login(request);
-        return ResponseEntity.ok(response);
     }
 
 
@@ -55,7 +54,7 @@ public class AuthController {
         }
 
         try {
-            Map<String, String> tokens = refreshTokenService.refreshAccessToken(refreshToken);
+            Map<String, String> tokens = refreshTokenCoalescer.refreshAccessToken(refreshToken);
             return ResponseEntity.ok(tokens);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -64,7 +63,8 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> logout(@RequestBody Map<String, String> request,
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         String refreshToken = request.get("refreshToken");
         if (refreshToken == null || refreshToken.isEmpty()) {
             return ResponseEntity.badRequest()
@@ -73,6 +73,10 @@ public class AuthController {
 
         try {
             refreshTokenService.logout(refreshToken);
+            // 함께 보낸 Access Token도 만료 전까지 쓰지 못하도록 폐기한다.
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                accessTokenRevocationList.revoke(authorization.substring(7));
+            }
             return ResponseEntity.ok(Map.of("message", "Logout successful."));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
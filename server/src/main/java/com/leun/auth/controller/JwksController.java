@@ -0,0 +1,37 @@
+package com.leun.auth.controller;
+
+import com.leun.auth.service.JwksPublisher;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 다른 서비스가 Access Token을 직접 검증할 수 있도록 공개 키를 내보낸다.
+// 캐시한 쪽은 모르는 kid를 만났을 때만 다시 받아 가면 된다.
+@RestController
+public class JwksController {
+
+    private final JwksPublisher jwksPublisher;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwksPublisher jwksPublisher,
+        @Value("${jwt.jwks.max-age:1h}") Duration maxAge) {
+        this.jwksPublisher = jwksPublisher;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    // If-None-Match가 ETag와 같으면 Spring MVC가 본문 없이 304로 응답한다.
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> getJwks() {
+
+        JwksPublisher.Document document = jwksPublisher.document();
+        return ResponseEntity.ok()
+            .eTag(document.etag())
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(document.body());
+    }
+}
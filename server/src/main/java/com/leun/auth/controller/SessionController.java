@@ -0,0 +1,52 @@
+package com.leun.auth.controller;
+
+import com.leun.auth.dto.SessionDto;
+import com.leun.auth.service.RefreshTokenService;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/auth/sessions")
+@RequiredArgsConstructor
+public class SessionController {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @GetMapping
+    public ResponseEntity<List<SessionDto.Response>> getSessions(
+        @AuthenticationPrincipal UserDetails userDetails) {
+
+        return ResponseEntity.ok(refreshTokenService.getSessions(userDetails.getUsername()));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<?> revokeSession(@AuthenticationPrincipal UserDetails userDetails,
+        @PathVariable Long sessionId) {
+
+        try {
+            refreshTokenService.revokeSession(userDetails.getUsername(), sessionId);
+            return ResponseEntity.noContent().build();
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping
+    public ResponseEntity<?> revokeAllSessions(@AuthenticationPrincipal UserDetails userDetails) {
+
+        int revoked = refreshTokenService.revokeAllSessions(userDetails.getUsername());
+        return ResponseEntity.ok(Map.of("revoked", revoked));
+    }
+}
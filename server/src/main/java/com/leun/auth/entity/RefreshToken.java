@@ -7,15 +7,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_previous_token_hash", columnList = "previous_token_hash"),
+    @Index(name = "idx_refresh_tokens_grace_token_hash", columnList = "grace_token_hash"),
+    @Index(name = "idx_refresh_tokens_user_last_used", columnList = "user_id, last_used_at"),
+    @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,19 +34,51 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
-    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    // 기기(세션)마다 하나의 Refresh Token을 가진다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, length = 500)
-    private String token;
+    // SHA-256 hex 다이제스트. JWT 길이와 무관하게 행/인덱스 크기가 고정된다.
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64,
+        columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
-    public RefreshToken(User user, String token) {
+    // 직전 토큰의 다이제스트와 교체 시각. 교체 직후 유예 시간 동안만 직전 토큰을 허용한다.
+    @Column(name = "previous_token_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String previousTokenHash;
+
+    // 유예 시간 안에 직전 토큰으로 다시 발급된 토큰의 다이제스트. 현재 토큰을 덮어쓰지 않고 함께
+    // 허용해야 먼저 교체한 요청이 받은 토큰도 계속 쓸 수 있다.
+    @Column(name = "grace_token_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String graceTokenHash;
+
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // 교체될 때마다 갱신된다. 세션 수 상한을 넘으면 이 값이 가장 오래된 세션부터 제거한다.
+    @Column(name = "last_used_at", nullable = false)
+    private Instant lastUsedAt;
+
+    // 현재 토큰의 만료 시각. 만료된 행은 ExpiredTokenStatePurger가 배치로 지운다.
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public RefreshToken(User user, String tokenHash) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = Instant.now();
+        this.lastUsedAt = this.createdAt;
     }
 
-    public void updateToken(String newToken) {
-        this.token = newToken;
+    public void updateTokenHash(String newTokenHash) {
+        this.tokenHash = newTokenHash;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.leun.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 만료 전에 폐기된 Access Token의 jti. 각 노드는 폐기 시각 순서로 최근 행을 가져가 메모리에 반영한다.
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+    @Index(name = "idx_revoked_access_tokens_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_revoked_access_tokens_revoked_at", columnList = "revoked_at, id")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36, columnDefinition = "CHAR(36)")
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // id는 커밋 순서와 다를 수 있으므로(작은 id가 늦게 커밋될 수 있다) 폴링 기준으로 쓰지 않는다.
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    public RevokedAccessToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.revokedAt = Instant.now();
+    }
+}
@@ -0,0 +1,63 @@
+package com.leun.auth.entity;
+
+import com.leun.auth.util.JwtAlgorithm;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 교체 주기마다 만들어지는 JWT 서명 키. 모든 노드가 같은 키로 서명/검증하도록 DB에 둔다.
+// 개인 키(HS256은 비밀 키)는 jwt.secret에서 유도한 키로 암호화해 저장한다.
+// 다음 키가 활성화되면 retired_at이 채워지고, 그 키로 서명된 토큰이 모두 만료되는 expires_at에
+// 삭제된다.
+@Entity
+@Table(name = "jwt_signing_keys", indexes = {
+    @Index(name = "idx_jwt_signing_keys_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class SigningKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36, columnDefinition = "CHAR(36)")
+    private String kid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JwtAlgorithm algorithm;
+
+    @Column(name = "encrypted_private_key", nullable = false, length = 512)
+    private byte[] encryptedPrivateKey;
+
+    @Column(name = "public_key", length = 512)
+    private byte[] publicKey;
+
+    @Column(name = "activates_at", nullable = false)
+    private Instant activatesAt;
+
+    @Column(name = "retired_at")
+    private Instant retiredAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    public SigningKey(String kid, JwtAlgorithm algorithm, byte[] encryptedPrivateKey,
+        byte[] publicKey, Instant activatesAt) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.encryptedPrivateKey = encryptedPrivateKey;
+        this.publicKey = publicKey;
+        this.activatesAt = activatesAt;
+    }
+}
@@ -1,16 +1,20 @@
 package com.leun.auth.filter;
 
-import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.util.JwtClaims;
 import com.leun.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -18,7 +22,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsService userDetailsService;
+    private final AccessTokenRevocationList revocationList;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final boolean claimsOnlyAuthentication;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -26,9 +33,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getTokenFromRequest(request);
 
-        if (token != null && jwtUtil.validateToken(token)) {
-            String email = jwtUtil.extractEmail(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        Optional<JwtClaims> claims = Optional.ofNullable(token)
+            .flatMap(jwtUtil::parseToken)
+            // uid/role 클레임이 없는 Refresh Token은 Bearer 토큰으로 받지 않는다.
+            .filter(JwtClaims::hasIdentityClaims)
+            .filter(c -> !revocationList.isRevoked(c.jti()))
+            .filter(c -> !tokenVersionRegistry.isStale(c.userId(), c.tokenVersion()));
+
+        if (claims.isPresent()) {
+            UserDetails userDetails = resolveUserDetails(claims.get());
 
             UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null,
@@ -40,6 +53,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     }
 
+    // claims-only 모드에서는 토큰에 담긴 role로 인증 객체를 만들고 DB 조회를 생략한다.
+    // 권한 변경/탈퇴는 Access Token 만료 시점까지 반영되지 않는다.
+    private UserDetails resolveUserDetails(JwtClaims claims) {
+        if (claimsOnlyAuthentication) {
+            return org.springframework.security.core.userdetails.User.withUsername(claims.email())
+                .password("")
+                .authorities(claims.role())
+                .build();
+        }
+        return userDetailsService.loadUserByUsername(claims.email());
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -2,16 +2,89 @@ package com.leun.auth.repository;
 
 import com.leun.auth.entity.RefreshToken;
 import com.leun.user.entity.User;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository  extends JpaRepository<RefreshToken, Long>{
 
-    Optional<RefreshToken> findByUser(User user);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    Optional<RefreshToken> findByToken(String token);
+    // 현재/유예 토큰과 직전 토큰 중 어느 것으로도 행을 찾을 수 있어야 유예 시간 내 재사용 요청의
+    // 사용자를 확인할 수 있다.
+    @Query("SELECT rt FROM RefreshToken rt JOIN FETCH rt.user "
+        + "WHERE rt.tokenHash = :tokenHash OR rt.graceTokenHash = :tokenHash "
+        + "OR rt.previousTokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByAcceptedTokenHash(@Param("tokenHash") String tokenHash);
+
+    // (user_id, last_used_at) 인덱스 순서대로 읽는다.
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user.email = :email "
+        + "ORDER BY rt.lastUsedAt DESC")
+    List<RefreshToken> findSessionsByEmail(@Param("email") String email);
 
     void deleteByUser(User user);
+
+    // 현재 토큰이나 유예 토큰이 :tokenHash일 때만 교체한다. 영향받은 행 수(0/1)가 교체 성공 여부다.
+    // 제시된 토큰이 직전 토큰이 되고, 유예 토큰은 새 토큰으로 대체되므로 비운다.
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.previousTokenHash = :tokenHash, "
+        + "rt.tokenHash = :newTokenHash, rt.graceTokenHash = NULL, rt.rotatedAt = :rotatedAt, "
+        + "rt.lastUsedAt = :rotatedAt, rt.expiresAt = :expiresAt "
+        + "WHERE rt.user.id = :userId "
+        + "AND (rt.tokenHash = :tokenHash OR rt.graceTokenHash = :tokenHash)")
+    int rotate(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+        @Param("newTokenHash") String newTokenHash, @Param("rotatedAt") Instant rotatedAt,
+        @Param("expiresAt") Instant expiresAt);
+
+    // 유예 시간 안에 직전 토큰으로 들어온 요청. 먼저 교체한 요청이 받은 현재 토큰은 그대로 두고,
+    // 새 토큰은 유예 토큰으로 함께 허용한다. 유예 토큰은 하나만 두므로 가장 마지막 요청의 것이 남는다.
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.graceTokenHash = :newTokenHash, "
+        + "rt.lastUsedAt = :usedAt, rt.expiresAt = :expiresAt "
+        + "WHERE rt.user.id = :userId AND rt.previousTokenHash = :tokenHash "
+        + "AND rt.rotatedAt >= :graceStart")
+    int rotateFromPrevious(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+        @Param("newTokenHash") String newTokenHash, @Param("usedAt") Instant usedAt,
+        @Param("expiresAt") Instant expiresAt, @Param("graceStart") Instant graceStart);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt "
+        + "WHERE rt.tokenHash = :tokenHash OR rt.graceTokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id = :id "
+        + "AND rt.user.id = (SELECT u.id FROM User u WHERE u.email = :email)")
+    int deleteSession(@Param("id") Long id, @Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt "
+        + "WHERE rt.user.id = (SELECT u.id FROM User u WHERE u.email = :email)")
+    int deleteAllSessions(@Param("email") String email);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.user.id = :userId")
+    int deleteAllSessionsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO refresh_tokens "
+        + "(user_id, token_hash, created_at, last_used_at, expires_at) "
+        + "VALUES (:userId, :tokenHash, :createdAt, :createdAt, :expiresAt)", nativeQuery = true)
+    void insertToken(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+        @Param("createdAt") Instant createdAt, @Param("expiresAt") Instant expiresAt);
+
+    // 가장 최근에 사용된 :maxSessions개만 남기고 지운다.
+    // MySQL은 IN 서브쿼리에 LIMIT을 허용하지 않으므로 파생 테이블로 한 번 감싼다.
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE user_id = :userId AND id NOT IN ("
+        + "SELECT id FROM (SELECT id FROM refresh_tokens WHERE user_id = :userId "
+        + "ORDER BY last_used_at DESC, id DESC LIMIT :maxSessions) recent)", nativeQuery = true)
+    int evictLeastRecentlyUsed(@Param("userId") Long userId,
+        @Param("maxSessions") int maxSessions);
 }
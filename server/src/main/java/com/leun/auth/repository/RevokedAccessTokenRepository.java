@@ -0,0 +1,22 @@
+package com.leun.auth.repository;
+
+import com.leun.auth.entity.RevokedAccessToken;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    // (revokedAt, id) 커서 다음의 아직 유효한 폐기 항목을 폐기 시각 순서로 가져온다.
+    // 같은 시각의 행이 배치 경계에 걸쳐도 id로 이어서 읽을 수 있다.
+    @Query("SELECT rt FROM RevokedAccessToken rt WHERE rt.expiresAt > :now "
+        + "AND (rt.revokedAt > :revokedAt OR (rt.revokedAt = :revokedAt AND rt.id > :id)) "
+        + "ORDER BY rt.revokedAt, rt.id")
+    List<RevokedAccessToken> findUnexpiredRevokedAfter(@Param("revokedAt") Instant revokedAt,
+        @Param("id") Long id, @Param("now") Instant now, Pageable pageable);
+}
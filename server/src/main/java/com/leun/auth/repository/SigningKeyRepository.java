@@ -0,0 +1,30 @@
+package com.leun.auth.repository;
+
+import com.leun.auth.entity.SigningKey;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, Long> {
+
+    // 아직 검증에 쓰일 수 있는 키. 활성 키는 expires_at이 비어 있다.
+    @Query("SELECT k FROM SigningKey k WHERE k.expiresAt IS NULL OR k.expiresAt > :now")
+    List<SigningKey> findUsableKeys(@Param("now") Instant now);
+
+    Optional<SigningKey> findFirstByOrderByActivatesAtDesc();
+
+    // 새 키가 활성화되는 시각에 이전 키들을 은퇴시키고, 그 키로 서명된 토큰의 최대 만료 시각을 기록한다.
+    @Modifying
+    @Transactional
+    @Query("UPDATE SigningKey k SET k.retiredAt = :retiredAt, k.expiresAt = :expiresAt "
+        + "WHERE k.retiredAt IS NULL AND k.id <> :id")
+    int retireOthers(@Param("id") Long id, @Param("retiredAt") Instant retiredAt,
+        @Param("expiresAt") Instant expiresAt);
+}
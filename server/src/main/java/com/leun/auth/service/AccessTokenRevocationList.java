@@ -0,0 +1,162 @@
+package com.leun.auth.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.leun.auth.entity.RevokedAccessToken;
+import com.leun.auth.repository.RevokedAccessTokenRepository;
+import com.leun.auth.util.JwtClaims;
+import com.leun.auth.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 만료 전에 폐기된 Access Token(jti) 목록.
+// 대부분의 요청은 폐기되지 않은 토큰이므로 Bloom filter에서 바로 "없음"으로 끝나고,
+// Bloom filter가 "있을 수도 있음"이라고 답한 경우에만 정확한 맵을 확인한다.
+// 항목은 토큰의 exp가 지나면 맵에서 빠지고, Bloom filter는 그때 맵으로부터 다시 만든다.
+// 다른 노드의 폐기는 revoked_access_tokens 테이블을 revoked_at 순으로 증분 폴링해 반영한다.
+@Component
+@Slf4j
+public class AccessTokenRevocationList implements MeterBinder {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final int expectedInsertions;
+    private final double falsePositiveProbability;
+    private final int pollBatchSize;
+    private final Duration lookback;
+
+    private final ConcurrentMap<String, Instant> revoked = new ConcurrentHashMap<>();
+    // 조회(isRevoked)는 락 없이 volatile 참조만 읽고, 추가/재구성만 이 락으로 직렬화한다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile BloomFilter<CharSequence> bloomFilter;
+    private int capacity;
+    private volatile Instant lastSeen;
+
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+        JwtUtil jwtUtil,
+        @Value("${auth.access-token-revocation.expected-insertions:100000}") int expectedInsertions,
+        @Value("${auth.access-token-revocation.false-positive-probability:0.001}") double falsePositiveProbability,
+        @Value("${auth.access-token-revocation.poll-batch-size:1000}") int pollBatchSize,
+        @Value("${auth.access-token-revocation.lookback:5s}") Duration lookback) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.pollBatchSize = pollBatchSize;
+        this.lookback = lookback;
+        this.capacity = expectedInsertions;
+        this.bloomFilter = newBloomFilter(capacity);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    // 서명이 유효하고 아직 만료되지 않은 토큰만 기록한다. 이미 만료된 토큰은 폐기할 필요가 없다.
+    public void revoke(String accessToken) {
+        Optional<JwtClaims> claims = jwtUtil.parseToken(accessToken);
+        if (claims.isEmpty() || claims.get().jti() == null) {
+            return;
+        }
+
+        String jti = claims.get().jti();
+        Instant expiresAt = claims.get().expiresAt();
+        try {
+            revokedAccessTokenRepository.save(new RevokedAccessToken(jti, expiresAt));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Access token {} was already revoked", jti);
+        }
+        add(jti, expiresAt);
+    }
+
+    // 늦게 커밋된 행(더 작은 id나 더 이른 revoked_at)과 노드 간 시계 차이를 놓치지 않도록
+    // 마지막으로 본 폐기 시각보다 lookback만큼 앞에서부터 다시 읽는다. 다시 읽은 항목은 무시된다.
+    @Scheduled(fixedDelayString = "${auth.access-token-revocation.poll-interval:1000}")
+    public void poll() {
+        Instant now = Instant.now();
+        Instant cursorAt = lastSeen == null ? Instant.EPOCH : lastSeen.minus(lookback);
+        long cursorId = 0L;
+        List<RevokedAccessToken> batch;
+        do {
+            batch = revokedAccessTokenRepository.findUnexpiredRevokedAfter(cursorAt, cursorId,
+                now, PageRequest.of(0, pollBatchSize));
+            for (RevokedAccessToken token : batch) {
+                add(token.getJti(), token.getExpiresAt());
+                cursorAt = token.getRevokedAt();
+                cursorId = token.getId();
+                if (lastSeen == null || cursorAt.isAfter(lastSeen)) {
+                    lastSeen = cursorAt;
+                }
+            }
+        } while (batch.size() == pollBatchSize);
+
+        evictExpired(now);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registry.gauge("access.token.revocations", revoked, Map::size);
+    }
+
+    private void add(String jti, Instant expiresAt) {
+        writeLock.lock();
+        try {
+            if (revoked.put(jti, expiresAt) == null) {
+                bloomFilter.put(jti);
+            }
+            // 용량을 넘기면 오탐률이 올라가므로 두 배 크기로 다시 만든다.
+            if (revoked.size() > capacity) {
+                capacity *= 2;
+                rebuild();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        writeLock.lock();
+        try {
+            if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+                capacity = Math.max(expectedInsertions, revoked.size() * 2);
+                rebuild();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        BloomFilter<CharSequence> rebuilt = newBloomFilter(capacity);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter(int expected) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expected,
+            falsePositiveProbability);
+    }
+}
@@ -1,43 +1,69 @@
 package com.leun.auth.service;
 
 import com.leun.auth.dto.AuthDto;
-import com.leun.auth.entity.RefreshToken;
-import com.leun.auth.repository.RefreshTokenRepository;
 import com.leun.auth.util.JwtUtil;
-import com.leun.user.entity.User;
-import com.leun.user.entity.UserProfile;
-import com.leun.user.repository.UserProfileRepository;
+import com.leun.user.dto.UserDto;
+import com.leun.user.repository.UserRepository;
 import com.leun.user.service.UserService;
-import jakarta.transaction.Transactional;
-import java.util.NoSuchElementException;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
     private final UserService userService;
-    private final UserProfileRepository userProfileRepository;
+    private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordEncoder passwordEncoder;
+
+    // 존재하지 않는 이메일의 해시 비교에 쓴다. 요청마다 만들지 않도록 생성 시 한 번만 계산한다.
+    private final String userNotFoundEncodedPassword;
+
+    public AuthService(UserService userService, UserRepository userRepository, JwtUtil jwtUtil,
+        RefreshTokenService refreshTokenService, PasswordEncoder passwordEncoder) {
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordEncoder = passwordEncoder;
+        this.userNotFoundEncodedPassword = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+    }
 
-    @Transactional
+    // 사용자/프로필 조회 1회 + Refresh Token 세션 생성으로 로그인을 처리한다.
+    // BCrypt 대기와 비교 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 조회/비교하고,
+    // 재해시 저장과 세션 생성만 각자의 짧은 트랜잭션에서 실행한다.
     public AuthDto.Response login(AuthDto.Request request) throws Exception {
-        User user = userService.findUserByEmail(request.getEmail());
+        Optional<UserDto.Credentials> found =
+            userRepository.findCredentialsByEmail(request.getEmail());
+
+        if (found.isEmpty()) {
+            // 존재하지 않는 이메일도 같은 시간이 걸리도록 해시 비교를 수행한다.
+            passwordEncoder.matches(request.getPassword(), userNotFoundEncodedPassword);
+            throw new BadCredentialsException("Invalid email or password");
+        }
+
+        UserDto.Credentials credentials = found.get();
+        if (!passwordEncoder.matches(request.getPassword(), credentials.getPassword())) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
-        UserProfile profile = userProfileRepository.findByUser(user)
-            .orElseThrow(() -> new NoSuchElementException("User Does Not Exist"));
+        if (passwordEncoder.upgradeEncoding(credentials.getPassword())) {
+            userService.updatePassword(credentials.getEmail(),
+                passwordEncoder.encode(request.getPassword()));
+        }
 
-        String accessToken = jwtUtil.generateAccessToken(user.getEmail());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+        String accessToken = jwtUtil.generateAccessToken(credentials.getEmail(),
+            credentials.getId(), credentials.getUserRole(), credentials.getTokenVersion());
+        String refreshToken = jwtUtil.generateRefreshToken(credentials.getEmail());
 
-        refreshTokenRepository.findByUser(user)
-            .ifPresentOrElse(
-                rt -> rt.updateToken(refreshToken),
-                () -> refreshTokenRepository.save(new RefreshToken(user, refreshToken))
-            );
+        refreshTokenService.createSession(credentials.getId(), refreshToken);
 
-        return new AuthDto.Response(profile.getName(), profile.getImage(), accessToken, refreshToken);
+        return new AuthDto.Response(credentials.getName(), credentials.getImage(), accessToken,
+            refreshToken);
     }
 }
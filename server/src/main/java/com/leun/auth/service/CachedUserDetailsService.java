@@ -0,0 +1,117 @@
+package com.leun.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.leun.user.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+public class CachedUserDetailsService implements UserDetailsService, MeterBinder {
+
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final UserDetailsService delegate;
+    private final Cache<String, UserDetails> users;
+    private final Cache<String, Boolean> missingUsers;
+    // 키별(스트라이프별) 무효화 횟수. 조회를 시작할 때의 값과 저장 직전의 값이 다르면 그 사이에
+    // 커밋된 변경이 있었으므로 조회 결과를 캐시에 넣지 않는다.
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public CachedUserDetailsService(UserDetailsService delegate, long maximumSize, Duration ttl,
+        Duration negativeTtl) {
+        this.delegate = delegate;
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.missingUsers = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(negativeTtl)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+
+        if (missingUsers.getIfPresent(username) != null) {
+            throw new UsernameNotFoundException("User not found with email: " + username);
+        }
+
+        UserDetails cached = users.getIfPresent(username);
+        if (cached != null) {
+            return copyOf(cached);
+        }
+
+        // Cache.get(key, loader)는 ConcurrentHashMap.compute 안에서 로더를 실행해 DB 조회 동안
+        // 버킷 락(synchronized)을 잡는다. 가상 스레드에서는 캐리어 스레드가 고정되므로 락 밖에서 조회한다.
+        // 조회 중에 무효화가 끼어들면 오래된 값이 TTL 동안 남으므로 무효화 횟수로 확인한 뒤 넣는다.
+        int stripe = stripeOf(username);
+        long stamp = invalidations.get(stripe);
+        UserDetails loaded;
+        try {
+            loaded = delegate.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            putIfNotInvalidated(missingUsers, username, Boolean.TRUE, stripe, stamp);
+            throw e;
+        }
+        putIfNotInvalidated(users, username, loaded, stripe, stamp);
+        return copyOf(loaded);
+    }
+
+    // 가입/탈퇴/권한·비밀번호 변경이 커밋된 뒤에 캐시를 비운다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.email());
+    }
+
+    // 무효화 횟수를 먼저 올려, 이미 진행 중인 조회가 이후에 오래된 값을 넣지 못하게 한다.
+    public void evict(String username) {
+        invalidations.incrementAndGet(stripeOf(username));
+        users.invalidate(username);
+        missingUsers.invalidate(username);
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+
+    public CacheStats negativeStats() {
+        return missingUsers.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, users, "userDetails");
+        CaffeineCacheMetrics.monitor(registry, missingUsers, "userDetailsNotFound");
+    }
+
+    // compute는 버킷 락 안에서 실행되지만 DB 조회 없이 비교만 하므로 짧다. evict가 횟수를 올린 뒤
+    // 비우므로, 이 비교보다 늦은 무효화는 넣은 값을 지우고 이른 무효화는 넣기 자체를 막는다.
+    private <V> void putIfNotInvalidated(Cache<String, V> cache, String username, V value,
+        int stripe, long stamp) {
+        cache.asMap().compute(username,
+            (key, existing) -> invalidations.get(stripe) == stamp ? value : existing);
+    }
+
+    private static int stripeOf(String username) {
+        int h = username.hashCode();
+        return (h ^ (h >>> 16)) & (INVALIDATION_STRIPES - 1);
+    }
+
+    // ProviderManager가 인증 후 principal의 비밀번호를 지우므로 캐시된 객체를 그대로 내보내지 않는다.
+    private UserDetails copyOf(UserDetails userDetails) {
+        return User.withUserDetails(userDetails).build();
+    }
+}
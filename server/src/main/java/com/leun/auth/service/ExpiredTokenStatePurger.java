@@ -0,0 +1,116 @@
+package com.leun.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 만료된 Refresh Token 행, Access Token 폐기 기록, 은퇴한 서명 키를 작은 배치로 나눠 지운다.
+// 한 번에 지우면 큰 트랜잭션이 테이블과 인덱스를 오래 잠그므로, expires_at 인덱스 순서로
+// batch-size개씩 지우고(autocommit) 배치 사이에 pause만큼 쉰다.
+// 여러 노드가 동시에 돌지 않도록 MySQL GET_LOCK으로 실행권을 잡고, 락 획득, 삭제, 해제를
+// 모두 같은 커넥션에서 수행한다.
+@Component
+@Slf4j
+public class ExpiredTokenStatePurger {
+
+    static final String LOCK_NAME = "token_state_purge";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PurgeTarget> targets;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+
+    public ExpiredTokenStatePurger(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+        @Value("${auth.purge.batch-size:500}") int batchSize,
+        @Value("${auth.purge.max-batches:1000}") int maxBatches,
+        @Value("${auth.purge.pause:100ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.targets = List.of(
+            new PurgeTarget("refresh_tokens", Counter.builder("refresh.tokens.purged")
+                .description("Expired refresh token rows deleted by the purge job")
+                .register(meterRegistry)),
+            new PurgeTarget("revoked_access_tokens", Counter.builder("revoked.access.tokens.purged")
+                .description("Expired access token revocations deleted by the purge job")
+                .register(meterRegistry)),
+            new PurgeTarget("jwt_signing_keys", Counter.builder("jwt.signing.keys.purged")
+                .description("Retired signing keys deleted once their tokens have expired")
+                .register(meterRegistry)));
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+    }
+
+    @Scheduled(initialDelayString = "${auth.purge.initial-delay:60000}",
+        fixedDelayString = "${auth.purge.interval:3600000}")
+    public void purgeExpiredTokens() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!MySqlNamedLock.tryLock(connection, LOCK_NAME)) {
+                log.debug("Skipping token purge: another node holds the lock");
+                return null;
+            }
+            try {
+                Instant cutoff = Instant.now();
+                for (PurgeTarget target : targets) {
+                    int purged = deleteExpired(connection, target.table(), cutoff);
+                    target.purgedRows().increment(purged);
+                    log.info("Purged {} expired rows from {}", purged, target.table());
+                }
+                return null;
+            } finally {
+                MySqlNamedLock.release(connection, LOCK_NAME);
+            }
+        });
+    }
+
+    private int deleteExpired(Connection connection, String table, Instant cutoff)
+        throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        int total = 0;
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM " + table
+            + " WHERE expires_at < ? ORDER BY expires_at LIMIT ?")) {
+            // expires_at은 UTC로 저장되므로 JVM 기본 시간대가 아니라 UTC 기준으로 바인딩한다.
+            delete.setTimestamp(1, Timestamp.from(cutoff),
+                Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+            delete.setInt(2, batchSize);
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = delete.executeUpdate();
+                total += deleted;
+                if (deleted < batchSize || !pause()) {
+                    break;
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PurgeTarget(String table, Counter purgedRows) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.leun.auth.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.leun.auth.config.OAuthConfig;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Google 토큰 교환과 ID 토큰 검증에 쓰는 transport/verifier를 애플리케이션 전체에서 공유한다.
+// 공개 키는 인증서 응답의 Cache-Control max-age 동안 캐시되고, 만료 전에 백그라운드에서 갱신된다.
+@Component
+@Slf4j
+public class GoogleTokenClient implements DisposableBean {
+
+    private final OAuthConfig oauthConfig;
+    private final ApacheHttpTransport transport;
+    private final HttpRequestInitializer timeouts;
+    private final JsonFactory jsonFactory;
+    private final GooglePublicKeysManager publicKeysManager;
+    private final GoogleIdTokenVerifier verifier;
+    private final long refreshAheadMillis;
+
+    public GoogleTokenClient(OAuthConfig oauthConfig,
+        @Value("${oauth.google.public-keys.refresh-ahead:600000}") long refreshAheadMillis,
+        @Value("${oauth.http-client.connect-timeout:2s}") Duration connectTimeout,
+        @Value("${oauth.http-client.read-timeout:5s}") Duration readTimeout) {
+        this.oauthConfig = oauthConfig;
+        this.transport = new ApacheHttpTransport();
+        this.timeouts = request -> request
+            .setConnectTimeout((int) connectTimeout.toMillis())
+            .setReadTimeout((int) readTimeout.toMillis());
+        this.jsonFactory = GsonFactory.getDefaultInstance();
+        this.publicKeysManager = new GooglePublicKeysManager.Builder(transport, jsonFactory)
+            .setPublicCertsEncodedUrl(oauthConfig.getGoogleCertsUri())
+            .build();
+        this.verifier = new GoogleIdTokenVerifier.Builder(publicKeysManager)
+            .setAudience(Collections.singletonList(oauthConfig.getGoogleClientId()))
+            .build();
+        this.refreshAheadMillis = refreshAheadMillis;
+    }
+
+    public GoogleTokenResponse exchangeAuthCode(String authCode) throws IOException {
+        return new GoogleAuthorizationCodeTokenRequest(
+            transport,
+            jsonFactory,
+            oauthConfig.getGoogleTokenUri(),
+            oauthConfig.getGoogleClientId(),
+            oauthConfig.getGoogleClientSecret(),
+            authCode,
+            oauthConfig.getGoogleRedirectUri()
+        ).setRequestInitializer(timeouts).execute();
+    }
+
+    public GoogleIdToken verify(String idToken) throws GeneralSecurityException, IOException {
+        return verifier.verify(idToken);
+    }
+
+    // 한 번도 로드되지 않은 키는 첫 로그인 때 가져오고, 이후에는 만료 전에 미리 갱신한다.
+    @Scheduled(fixedDelayString = "${oauth.google.public-keys.refresh-check-interval:60000}")
+    public void refreshPublicKeysIfExpiring() {
+        long expiresAt = publicKeysManager.getExpirationTimeMilliseconds();
+        if (expiresAt == 0 || expiresAt - System.currentTimeMillis() > refreshAheadMillis) {
+            return;
+        }
+
+        try {
+            publicKeysManager.refresh();
+        } catch (GeneralSecurityException | IOException e) {
+            log.warn("Failed to refresh Google public keys", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        transport.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+package com.leun.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leun.auth.util.JwtKeyRing;
+import com.leun.auth.util.JwtSigningKey;
+import com.leun.auth.util.TokenDigest;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.ECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+// 키 링의 공개 키를 JWKS(RFC 7517) 문서로 직렬화해 둔다. 키 구성이 바뀐 경우에만 다시 만들고,
+// 그 외 요청은 미리 만든 바이트 배열과 ETag를 그대로 돌려준다.
+// HS256 키는 비밀 키이므로 싣지 않는다.
+@Component
+public class JwksPublisher {
+
+    // Ed25519 공개 키의 X.509 인코딩은 12바이트 헤더 뒤에 32바이트 원시 키가 온다.
+    private static final int ED25519_KEY_LENGTH = 32;
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final JwtKeyRing keyRing;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock renderLock = new ReentrantLock();
+    private volatile Document document;
+
+    public JwksPublisher(JwtKeyRing keyRing, ObjectMapper objectMapper) {
+        this.keyRing = keyRing;
+        this.objectMapper = objectMapper;
+    }
+
+    public Document document() {
+        Document current = this.document;
+        if (current != null && current.generation() == keyRing.generation()) {
+            return current;
+        }
+
+        renderLock.lock();
+        try {
+            long generation = keyRing.generation();
+            if (this.document == null || this.document.generation() != generation) {
+                this.document = render(generation);
+            }
+            return this.document;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    private Document render(long generation) {
+        List<Map<String, String>> keys = keyRing.keys().stream()
+            .filter(key -> key.algorithm().isAsymmetric())
+            .sorted(Comparator.comparing(JwtSigningKey::activatesAt).reversed())
+            .map(this::toJwk)
+            .toList();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+            String etag =
+                "\"" + TokenDigest.sha256Hex(new String(body, StandardCharsets.UTF_8)) + "\"";
+            return new Document(generation, body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize JWKS", e);
+        }
+    }
+
+    private Map<String, String> toJwk(JwtSigningKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kid", key.kid());
+        jwk.put("use", "sig");
+        jwk.put("alg", key.algorithm().name());
+        switch (key.algorithm()) {
+            case ES256 -> {
+                ECPublicKey publicKey = (ECPublicKey) key.verificationKey();
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", base64Url(unsigned(publicKey.getW().getAffineX())));
+                jwk.put("y", base64Url(unsigned(publicKey.getW().getAffineY())));
+            }
+            case EdDSA -> {
+                byte[] encoded = key.verificationKey().getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", base64Url(Arrays.copyOfRange(encoded,
+                    encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+            }
+            default -> throw new IllegalArgumentException("Not a public key: " + key.kid());
+        }
+        return jwk;
+    }
+
+    // BigInteger.toByteArray()는 부호 바이트가 붙거나 앞의 0이 빠질 수 있어 고정 길이로 맞춘다.
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_LENGTH - length,
+            length);
+        return fixed;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record Document(long generation, byte[] body, String etag) {
+
+    }
+}
@@ -0,0 +1,185 @@
+package com.leun.auth.service;
+
+import com.leun.auth.entity.SigningKey;
+import com.leun.auth.repository.SigningKeyRepository;
+import com.leun.auth.util.JwtAlgorithm;
+import com.leun.auth.util.JwtKeyRing;
+import com.leun.auth.util.JwtSigningKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// jwt_signing_keys 테이블로 키 링을 채우고, rotation-interval마다 새 서명 키를 만든다.
+// 새 키는 activation-delay 뒤에 활성화된다. 그 전에 모든 노드가 refresh-interval 주기로 키를
+// 읽어 가므로, 어느 노드가 새 키로 서명해도 다른 노드가 검증할 수 있다.
+// JWKS를 캐시하는 외부 검증자도 max-age 안에 새 키를 받아 가야 하므로, activation-delay가
+// refresh-interval + jwt.jwks.max-age보다 짧으면 시작 단계에서 실패한다.
+// 교체는 MySQL GET_LOCK을 잡은 노드 하나만 수행한다.
+@Component
+@Slf4j
+public class JwtKeyRotator {
+
+    static final String LOCK_NAME = "jwt_signing_key_rotation";
+
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_LENGTH = 128;
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final JwtKeyRing keyRing;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecretKey keyEncryptionKey;
+    private final JwtAlgorithm algorithm;
+    private final Duration rotationInterval;
+    private final Duration activationDelay;
+    private final Duration tokenLifetime;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public JwtKeyRotator(SigningKeyRepository signingKeyRepository, JwtKeyRing keyRing,
+        JdbcTemplate jdbcTemplate,
+        @Value("${jwt.secret}") String secretKey,
+        @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime,
+        @Value("${jwt.signing.algorithm:ES256}") JwtAlgorithm algorithm,
+        @Value("${jwt.signing.rotation-interval:7d}") Duration rotationInterval,
+        @Value("${jwt.signing.activation-delay:65m}") Duration activationDelay,
+        @Value("${jwt.signing.refresh-interval:60000}") long refreshIntervalMillis,
+        @Value("${jwt.jwks.max-age:1h}") Duration jwksMaxAge) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.keyRing = keyRing;
+        this.jdbcTemplate = jdbcTemplate;
+        this.keyEncryptionKey = deriveKeyEncryptionKey(secretKey);
+        this.algorithm = algorithm;
+        this.rotationInterval = rotationInterval;
+        this.activationDelay = activationDelay;
+        Duration publishDelay = Duration.ofMillis(refreshIntervalMillis).plus(jwksMaxAge);
+        if (rotationInterval.isPositive() && activationDelay.compareTo(publishDelay) < 0) {
+            throw new IllegalStateException("jwt.signing.activation-delay (" + activationDelay
+                + ") must be at least jwt.signing.refresh-interval + jwt.jwks.max-age ("
+                + publishDelay + ")");
+        }
+        // 은퇴한 키는 그 키로 마지막에 서명된 Refresh Token이 만료될 때까지 검증용으로 둔다.
+        this.tokenLifetime = Duration.ofMillis(refreshTokenExpirationTime);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval:60000}")
+    public void refresh() {
+        List<JwtSigningKey> keys = signingKeyRepository.findUsableKeys(Instant.now()).stream()
+            .map(this::toSigningKey)
+            .toList();
+        keyRing.replace(keys);
+    }
+
+    // rotation-interval이 0이면 교체하지 않고 jwt.secret 키(또는 이미 저장된 키)만 쓴다.
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-check-interval:60000}")
+    public void rotateIfDue() {
+        if (rotationInterval.isZero() || rotationInterval.isNegative()) {
+            return;
+        }
+
+        Boolean rotated = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!MySqlNamedLock.tryLock(connection, LOCK_NAME)) {
+                log.debug("Skipping key rotation: another node holds the lock");
+                return false;
+            }
+            try {
+                return rotate(Instant.now());
+            } finally {
+                MySqlNamedLock.release(connection, LOCK_NAME);
+            }
+        });
+
+        if (Boolean.TRUE.equals(rotated)) {
+            refresh();
+        }
+    }
+
+    boolean rotate(Instant now) {
+        Optional<SigningKey> latest = signingKeyRepository.findFirstByOrderByActivatesAtDesc();
+        if (latest.isPresent()
+            && latest.get().getActivatesAt().isAfter(now.minus(rotationInterval))) {
+            return false;
+        }
+
+        Instant activatesAt = now.plus(activationDelay);
+        JwtSigningKey generated = algorithm.generate(UUID.randomUUID().toString(), activatesAt);
+        SigningKey saved = signingKeyRepository.save(new SigningKey(generated.kid(), algorithm,
+            encrypt(generated.signingKey().getEncoded()),
+            algorithm.isAsymmetric() ? generated.verificationKey().getEncoded() : null,
+            activatesAt));
+        signingKeyRepository.retireOthers(saved.getId(), activatesAt,
+            activatesAt.plus(tokenLifetime));
+
+        log.info("Created {} signing key {} active from {}", algorithm, generated.kid(),
+            activatesAt);
+        return true;
+    }
+
+    private JwtSigningKey toSigningKey(SigningKey stored) {
+        JwtAlgorithm storedAlgorithm = stored.getAlgorithm();
+        Key signingKey = storedAlgorithm.decodeSigningKey(
+            decrypt(stored.getEncryptedPrivateKey()));
+        Key verificationKey = storedAlgorithm.isAsymmetric()
+            ? storedAlgorithm.decodeVerificationKey(stored.getPublicKey())
+            : signingKey;
+        return new JwtSigningKey(stored.getKid(), storedAlgorithm, signingKey, verificationKey,
+            stored.getActivatesAt());
+    }
+
+    // 저장 형식: IV(12바이트) + AES-GCM 암호문
+    byte[] encrypt(byte[] plaintext) {
+        try {
+            byte[] iv = new byte[GCM_IV_LENGTH];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey,
+                new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            byte[] ciphertext = cipher.doFinal(plaintext);
+            return ByteBuffer.allocate(iv.length + ciphertext.length)
+                .put(iv)
+                .put(ciphertext)
+                .array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key", e);
+        }
+    }
+
+    byte[] decrypt(byte[] stored) {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey,
+                new GCMParameterSpec(GCM_TAG_LENGTH, stored, 0, GCM_IV_LENGTH));
+            return cipher.doFinal(Arrays.copyOfRange(stored, GCM_IV_LENGTH, stored.length));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decrypt signing key", e);
+        }
+    }
+
+    private static SecretKey deriveKeyEncryptionKey(String secretKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update("jwt-signing-key-encryption:".getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(digest.digest(secretKey.getBytes(StandardCharsets.UTF_8)),
+                "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.leun.auth.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// 여러 노드 중 하나만 작업을 돌리기 위한 MySQL 네임드 락. 락은 커넥션에 묶이므로 획득과 해제를
+// 같은 커넥션에서 해야 한다.
+final class MySqlNamedLock {
+
+    private MySqlNamedLock() {
+    }
+
+    static boolean tryLock(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    static void release(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, name);
+            statement.execute();
+        }
+    }
+}
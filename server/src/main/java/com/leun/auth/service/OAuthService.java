@@ -1,15 +1,9 @@
 package com.leun.auth.service;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import com.leun.auth.config.OAuthConfig;
 import com.leun.auth.dto.AuthDto;
-import com.leun.auth.entity.RefreshToken;
-import com.leun.auth.repository.RefreshTokenRepository;
 import com.leun.auth.util.JwtUtil;
 import com.leun.user.entity.User;
 import com.leun.user.entity.User.ProviderType;
@@ -22,7 +16,6 @@ import com.leun.user.repository.UserSettingRepository;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Collections;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
@@ -44,10 +37,11 @@ public class OAuthService {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final UserSettingRepository userSettingRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final RestTemplate restTemplate;
+    private final GoogleTokenClient googleTokenClient;
 
     @Transactional
     public AuthDto.Response googleLoginWithAuthCode(String authCode)
@@ -59,15 +53,7 @@ public class OAuthService {
 
         GoogleTokenResponse tokenResponse;
         try {
-            tokenResponse = new GoogleAuthorizationCodeTokenRequest(
-                new NetHttpTransport(),
-                new GsonFactory(),
-                oauthConfig.getGoogleClientId(),
-                oauthConfig.getGoogleClientSecret(),
-                authCode,
-                oauthConfig.getGoogleRedirectUri()
-            ).execute();
-
+            tokenResponse = googleTokenClient.exchangeAuthCode(authCode);
         } catch (IOException e) {
             throw new Exception("Failed to exchange auth code for tokens with Google.", e);
         }
@@ -77,14 +63,9 @@ public class OAuthService {
             throw new Exception("ID token not received from Google token endpoint.");
         }
 
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(new NetHttpTransport(),
-            new GsonFactory())
-            .setAudience(Collections.singletonList(oauthConfig.getGoogleClientId()))
-            .build();
-
         GoogleIdToken idToken;
         try {
-            idToken = verifier.verify(idTokenString);
+            idToken = googleTokenClient.verify(idTokenString);
         } catch (GeneralSecurityException | IOException e) {
             throw new Exception("Failed to verify Google ID token.", e);
         }
@@ -115,15 +96,10 @@ public class OAuthService {
             throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         }
 
-        String accessToken = jwtUtil.generateAccessToken(email);
+        String accessToken = jwtUtil.generateAccessToken(user);
         String refreshToken = jwtUtil.generateRefreshToken(email);
 
-        User finalUser = user;
-        refreshTokenRepository.findByUser(finalUser)
-            .ifPresentOrElse(
-                rt -> rt.updateToken(refreshToken),
-                () -> refreshTokenRepository.save(new RefreshToken(finalUser, refreshToken))
-            );
+        refreshTokenService.createSession(user.getId(), refreshToken);
 
         return new AuthDto.Response(name, imageUrl, accessToken, refreshToken);
     }
@@ -220,16 +196,11 @@ public class OAuthService {
             throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         }
 
-        String accessToken = jwtUtil.generateAccessToken(email);
+        String accessToken = jwtUtil.generateAccessToken(user);
         String refreshToken = jwtUtil.generateRefreshToken(email);
 
-        User finalUser = user;
-        // Refresh Token 저장 (기존 토큰 업데이트 또는 신규 저장)
-        refreshTokenRepository.findByUser(finalUser)
-            .ifPresentOrElse(
-                rt -> rt.updateToken(refreshToken),
-                () -> refreshTokenRepository.save(new RefreshToken(finalUser, refreshToken))
-            );
+        // Refresh Token 저장 (기기별 새 세션 생성)
+        refreshTokenService.createSession(user.getId(), refreshToken);
 
         return new AuthDto.Response(name, imageUrl, accessToken, refreshToken);
     }
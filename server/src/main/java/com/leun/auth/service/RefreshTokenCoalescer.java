@@ -0,0 +1,95 @@
+package com.leun.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.leun.auth.util.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 같은 Refresh Token으로 동시에 들어온 갱신 요청을 하나의 교체로 합친다(single-flight).
+// 먼저 들어온 요청만 RefreshTokenService를 호출하고, 나머지는 그 결과를 함께 받는다.
+// 완료된 결과는 짧게 보관해 교체 직후 도착한 요청에도 같은 토큰 쌍을 돌려준다.
+@Component
+public class RefreshTokenCoalescer implements MeterBinder {
+
+    private final RefreshTokenService refreshTokenService;
+    private final ConcurrentMap<String, CompletableFuture<Map<String, String>>> inFlight =
+        new ConcurrentHashMap<>();
+    private final Cache<String, Map<String, String>> completed;
+
+    public RefreshTokenCoalescer(RefreshTokenService refreshTokenService,
+        @Value("${auth.refresh-token.coalescing.ttl:5s}") Duration ttl,
+        @Value("${auth.refresh-token.coalescing.maximum-size:10000}") long maximumSize) {
+        this.refreshTokenService = refreshTokenService;
+        this.completed = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    public Map<String, String> refreshAccessToken(String refreshToken) {
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+
+        Map<String, String> recent = completed.getIfPresent(tokenHash);
+        if (recent != null) {
+            return recent;
+        }
+
+        CompletableFuture<Map<String, String>> flight = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> existing = inFlight.putIfAbsent(tokenHash, flight);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            // 캐시 확인과 등록 사이에 앞선 교체가 끝났을 수 있다.
+            Map<String, String> result = completed.getIfPresent(tokenHash);
+            if (result == null) {
+                result = refreshTokenService.refreshAccessToken(refreshToken);
+                completed.put(tokenHash, result);
+            }
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error도 전달해야 기다리는 요청이 join()에서 멈추지 않는다.
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(tokenHash, flight);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, completed, "refreshTokenResults");
+        registry.gauge("refresh.token.in.flight", inFlight, Map::size);
+    }
+
+    private Map<String, String> await(CompletableFuture<Map<String, String>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,51 +1,89 @@
 package com.leun.auth.service;
 
+import com.leun.auth.dto.SessionDto;
 import com.leun.auth.entity.RefreshToken;
 import com.leun.auth.repository.RefreshTokenRepository;
+import com.leun.auth.util.JwtClaims;
 import com.leun.auth.util.JwtUtil;
+import com.leun.auth.util.TokenDigest;
 import com.leun.user.entity.User;
-import com.leun.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.NoSuchElementException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final Duration rotationGracePeriod;
+    private final int maxSessionsPerUser;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, JwtUtil jwtUtil,
+        TokenVersionRegistry tokenVersionRegistry,
+        @Value("${auth.refresh-token.rotation-grace-period:10s}") Duration rotationGracePeriod,
+        @Value("${auth.refresh-token.max-sessions-per-user:5}") int maxSessionsPerUser) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.rotationGracePeriod = rotationGracePeriod;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+    }
+
+    // 로그인마다 새 세션을 만든다. 다른 기기의 세션은 유지하고, 상한을 넘으면 가장 오래 쓰지 않은
+    // 세션부터 제거한다.
+    @Transactional
+    public void createSession(Long userId, String refreshToken) {
+        Instant now = Instant.now();
+        refreshTokenRepository.insertToken(userId, TokenDigest.sha256Hex(refreshToken), now,
+            refreshTokenExpiresAt(now));
+        refreshTokenRepository.evictLeastRecentlyUsed(userId, maxSessionsPerUser);
+    }
 
+    // 읽은 값을 Java에서 비교하지 않고, 조건부 UPDATE의 영향받은 행 수로 교체 성공을 판단한다.
+    // 동시에 같은 토큰으로 들어온 요청 중 하나만 현재 토큰을 교체하고, 나머지는 유예 시간 안이면
+    // 직전 토큰으로 인정받아 유예 토큰을 받는다. 현재 토큰과 유예 토큰은 둘 다 다음 교체에 쓸 수 있다.
     @Transactional
     public Map<String, String> refreshAccessToken(String refreshToken) { // 반환 타입 변경
         log.debug("Log:" + "service" + " " + "refreshAccessToken" + " " + refreshToken);
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid Refresh Token.");
-        }
-
-        String email = jwtUtil.extractEmail(refreshToken);
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(
-                () -> new UsernameNotFoundException("User not found with email: " + email));
+        String email = jwtUtil.parseToken(refreshToken)
+            .map(JwtClaims::email)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid Refresh Token."));
 
-        RefreshToken storedRefreshToken = refreshTokenRepository.findByUser(user)
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+        RefreshToken storedRefreshToken = refreshTokenRepository
+            .findWithUserByAcceptedTokenHash(tokenHash)
             .orElseThrow(() -> new IllegalArgumentException(
                 "Refresh Token not found for user: " + email));
 
-        if (!storedRefreshToken.getToken().equals(refreshToken)) {
+        User user = storedRefreshToken.getUser();
+        if (!user.getEmail().equals(email)) {
             throw new IllegalArgumentException("Refresh Token mismatch.");
         }
 
-        String newAccessToken = jwtUtil.generateAccessToken(email);
+        String newAccessToken = jwtUtil.generateAccessToken(user);
         String newRefreshToken = jwtUtil.generateRefreshToken(email); // 새로운 Refresh Token 생성
-
-        storedRefreshToken.updateToken(newRefreshToken); // DB 업데이트
-        refreshTokenRepository.save(storedRefreshToken); // 저장
+        String newTokenHash = TokenDigest.sha256Hex(newRefreshToken);
+
+        Instant now = Instant.now();
+        Instant expiresAt = refreshTokenExpiresAt(now);
+        int rotated = refreshTokenRepository.rotate(user.getId(), tokenHash, newTokenHash, now,
+            expiresAt);
+        if (rotated == 0) {
+            rotated = refreshTokenRepository.rotateFromPrevious(user.getId(), tokenHash,
+                newTokenHash, now, expiresAt, now.minus(rotationGracePeriod));
+        }
+        if (rotated == 0) {
+            throw new IllegalArgumentException("Refresh Token has already been used.");
+        }
 
         return Map.of("accessToken", newAccessToken, "refreshToken", newRefreshToken); // 둘 다 반환
     }
@@ -54,18 +92,40 @@ public class RefreshTokenService {
     public void logout(String refreshToken) {
 
         log.debug("Log:" + "service" + " " + "logout" + " " + refreshToken);
-        if (!jwtUtil.validateToken(refreshToken)) {
+        if (jwtUtil.parseToken(refreshToken).isEmpty()) {
             throw new IllegalArgumentException("Invalid Refresh Token provided for logout.");
         }
 
-        String email = jwtUtil.extractEmail(refreshToken);
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(
-                () -> new UsernameNotFoundException("User not found with email: " + email));
+        refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256Hex(refreshToken));
+    }
 
-        refreshTokenRepository.findByUser(user)
-            .ifPresent(refreshTokenRepository::delete);
+    public List<SessionDto.Response> getSessions(String email) {
+        return refreshTokenRepository.findSessionsByEmail(email).stream()
+            .map(rt -> new SessionDto.Response(rt.getId(), rt.getCreatedAt(), rt.getLastUsedAt()))
+            .toList();
     }
-}
 
+    @Transactional
+    public void revokeSession(String email, Long sessionId) {
+        if (refreshTokenRepository.deleteSession(sessionId, email) == 0) {
+            throw new NoSuchElementException("Session not found: " + sessionId);
+        }
+    }
+
+    // 모든 기기에서 로그아웃: Refresh Token을 지우고 토큰 버전을 올려 발급된 Access Token도 무효화한다.
+    @Transactional
+    public int revokeAllSessions(String email) {
+        tokenVersionRegistry.bump(email);
+        return refreshTokenRepository.deleteAllSessions(email);
+    }
 
+    @Transactional
+    public int revokeAllSessions(Long userId) {
+        tokenVersionRegistry.bump(userId);
+        return refreshTokenRepository.deleteAllSessionsByUserId(userId);
+    }
+
+    private Instant refreshTokenExpiresAt(Instant issuedAt) {
+        return issuedAt.plusMillis(jwtUtil.getRefreshTokenExpirationTime());
+    }
+}
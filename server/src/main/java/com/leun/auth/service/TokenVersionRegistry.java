@@ -0,0 +1,120 @@
+package com.leun.auth.service;
+
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.dto.UserDto;
+import com.leun.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 사용자별 토큰 버전. 버전을 올리면 그 이전 버전으로 발급된 Access Token이 모두 무효가 된다.
+// 맵에는 최근 Access Token 수명 안에 버전이 올라간 사용자만 둔다. 그보다 오래전에 올라갔다면
+// 이전 버전의 토큰은 이미 만료됐으므로 비교할 필요가 없다.
+// 다른 노드에서 올린 버전은 users.token_version_updated_at을 증분 폴링해 반영한다.
+@Component
+public class TokenVersionRegistry implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Duration retention;
+    private final Duration clockSkewTolerance;
+    private final ConcurrentMap<Long, Bump> versions = new ConcurrentHashMap<>();
+    private volatile Instant lastSeen;
+
+    public TokenVersionRegistry(UserRepository userRepository, JwtUtil jwtUtil,
+        @Value("${auth.token-version.clock-skew-tolerance:5s}") Duration clockSkewTolerance) {
+        this.userRepository = userRepository;
+        this.retention = Duration.ofMillis(jwtUtil.getAccessTokenExpirationTime());
+        this.clockSkewTolerance = clockSkewTolerance;
+    }
+
+    // 버전 클레임이 없는 토큰은 버전 0으로 발급된 것으로 본다.
+    public boolean isStale(Long userId, Long tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        Bump current = versions.get(userId);
+        return current != null && (tokenVersion == null ? 0L : tokenVersion) < current.version();
+    }
+
+    public long bump(Long userId) {
+        Instant now = Instant.now();
+        if (userRepository.incrementTokenVersion(userId, now) == 0) {
+            throw new NoSuchElementException("User Does Not Exist");
+        }
+        long version = userRepository.findTokenVersionById(userId)
+            .orElseThrow(() -> new NoSuchElementException("User Does Not Exist"));
+        afterCommit(() -> apply(userId, version, now));
+        return version;
+    }
+
+    public long bump(String email) {
+        Long userId = userRepository.findIdByEmail(email)
+            .orElseThrow(() -> new NoSuchElementException("User Does Not Exist"));
+        return bump(userId);
+    }
+
+    // 노드 간 시계 차이로 늦게 기록된 행을 놓치지 않도록 마지막으로 본 시각보다 조금 앞에서부터
+    // 읽는다. 보존 기간보다 오래된 행은 다시 읽지 않는다.
+    @Scheduled(fixedDelayString = "${auth.token-version.poll-interval:1000}")
+    public void poll() {
+        Instant now = Instant.now();
+        Instant since = now.minus(retention);
+        if (lastSeen != null && lastSeen.minus(clockSkewTolerance).isAfter(since)) {
+            since = lastSeen.minus(clockSkewTolerance);
+        }
+        for (UserDto.TokenVersion changed : userRepository.findTokenVersionsUpdatedSince(since)) {
+            apply(changed.id(), changed.tokenVersion(), changed.updatedAt());
+            if (lastSeen == null || changed.updatedAt().isAfter(lastSeen)) {
+                lastSeen = changed.updatedAt();
+            }
+        }
+        evictExpired(now);
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registry.gauge("token.versions", versions, Map::size);
+    }
+
+    private void apply(Long userId, long version, Instant updatedAt) {
+        versions.merge(userId, new Bump(version, updatedAt),
+            (current, next) -> next.version() > current.version() ? next : current);
+    }
+
+    // 롤백된 증가가 맵에 남아 유효한 토큰을 거부하지 않도록 트랜잭션 안에서는 커밋 뒤에 반영한다.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evictExpired(Instant now) {
+        Instant cutoff = now.minus(retention).minus(clockSkewTolerance);
+        versions.values().removeIf(bump -> bump.at().isBefore(cutoff));
+    }
+
+    private record Bump(long version, Instant at) {
+
+    }
+}
@@ -0,0 +1,74 @@
+package com.leun.auth.util;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@Slf4j
+@Getter
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+    private final int downgradeTolerance;
+
+    public CalibratedBCryptPasswordEncoder(int strength, int downgradeTolerance) {
+        super(strength);
+        this.strength = strength;
+        this.downgradeTolerance = downgradeTolerance;
+    }
+
+    // 저장된 해시의 cost가 현재 strength보다 낮으면 항상, 높으면 허용 범위를 넘을 때만 재해시한다.
+    // 서로 다른 사양의 노드가 같은 계정을 번갈아 재해시하지 않도록 하향 조정에는 여유를 둔다.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        int cost = Integer.parseInt(matcher.group(1));
+        return cost < strength || cost > strength + downgradeTolerance;
+    }
+
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration target, int minStrength,
+        int maxStrength, int downgradeTolerance) {
+
+        long targetNanos = target.toNanos();
+        long estimatedNanos = measure(minStrength);
+
+        // cost가 1 오를 때마다 연산량은 두 배가 된다.
+        int strength = minStrength;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt strength calibrated to {} (~{} ms per hash, target {} ms)", strength,
+            Duration.ofNanos(estimatedNanos).toMillis(), target.toMillis());
+
+        return new CalibratedBCryptPasswordEncoder(strength, downgradeTolerance);
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode(CALIBRATION_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long startedAt = System.nanoTime();
+            encoder.matches(CALIBRATION_PASSWORD, encoded);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,72 @@
+package com.leun.auth.util;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+// 서명 알고리즘별 키 생성과 인코딩. 비대칭 키는 PKCS#8(개인 키)과 X.509(공개 키)로 저장한다.
+public enum JwtAlgorithm {
+    HS256,
+    ES256,
+    EdDSA;
+
+    public boolean isAsymmetric() {
+        return this != HS256;
+    }
+
+    // HS256은 같은 SecretKey로 서명과 검증을 하므로 signingKey와 verificationKey가 같다.
+    public JwtSigningKey generate(String kid, Instant activatesAt) {
+        try {
+            if (this == HS256) {
+                SecretKey secretKey = KeyGenerator.getInstance("HmacSHA256").generateKey();
+                return new JwtSigningKey(kid, this, secretKey, secretKey, activatesAt);
+            }
+            KeyPair keyPair = keyPairGenerator().generateKeyPair();
+            return new JwtSigningKey(kid, this, keyPair.getPrivate(), keyPair.getPublic(),
+                activatesAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate " + this + " key", e);
+        }
+    }
+
+    public Key decodeSigningKey(byte[] encoded) {
+        try {
+            if (this == HS256) {
+                return new SecretKeySpec(encoded, "HmacSHA256");
+            }
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decode " + this + " signing key", e);
+        }
+    }
+
+    public Key decodeVerificationKey(byte[] encoded) {
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot decode " + this + " verification key", e);
+        }
+    }
+
+    private KeyPairGenerator keyPairGenerator() throws GeneralSecurityException {
+        if (this == ES256) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator;
+        }
+        return KeyPairGenerator.getInstance("Ed25519");
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(this == ES256 ? "EC" : "Ed25519");
+    }
+}
@@ -0,0 +1,21 @@
+package com.leun.auth.util;
+
+import com.leun.token.VerifiedToken;
+import java.time.Instant;
+
+public record JwtClaims(String email, Long userId, String role, Long tokenVersion, String jti,
+                        Instant issuedAt, Instant expiresAt) {
+
+    public static final String USER_ID = VerifiedToken.USER_ID;
+    public static final String ROLE = VerifiedToken.ROLE;
+    public static final String TOKEN_VERSION = VerifiedToken.TOKEN_VERSION;
+
+    static JwtClaims from(VerifiedToken token) {
+        return new JwtClaims(token.email(), token.userId(), token.role(), token.tokenVersion(),
+            token.jti(), token.issuedAt(), token.expiresAt());
+    }
+
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.leun.auth.util;
+
+import io.jsonwebtoken.security.Keys;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 서명/검증 키 모음. 검증은 JWT 헤더의 kid로 맵에서 바로 찾고, 서명은 활성화 시각이 지난 가장
+// 최근 키를 쓴다. 교체된 키는 그 키로 서명된 토큰이 만료될 때까지 키 링에 남아 검증에 쓰인다.
+// jwt.secret으로 만든 HS256 키는 kid "default"로 항상 포함된다. kid 없이 발급된 기존 토큰도
+// 이 키로 검증하고, 교체된 키가 아직 활성화되지 않았으면 이 키로 서명한다.
+@Component
+public class JwtKeyRing {
+
+    public static final String LEGACY_KEY_ID = "default";
+
+    private final JwtSigningKey legacyKey;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secretKey) {
+        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.legacyKey = new JwtSigningKey(LEGACY_KEY_ID, JwtAlgorithm.HS256, key, key,
+            Instant.EPOCH);
+        this.snapshot = new Snapshot(Map.of(LEGACY_KEY_ID, legacyKey), List.of(), 0);
+    }
+
+    public JwtSigningKey signingKey() {
+        Instant now = Instant.now();
+        for (JwtSigningKey key : snapshot.rotated()) {
+            if (!key.activatesAt().isAfter(now)) {
+                return key;
+            }
+        }
+        return legacyKey;
+    }
+
+    // 알 수 없는 kid면 null을 반환한다.
+    public JwtSigningKey find(String kid) {
+        return snapshot.byKid().get(kid != null ? kid : LEGACY_KEY_ID);
+    }
+
+    public Collection<JwtSigningKey> keys() {
+        return snapshot.byKid().values();
+    }
+
+    // 키 구성이 바뀔 때마다 1씩 증가한다. JWKS 문서처럼 키 목록에서 파생된 값을 다시 만들지 판단한다.
+    public long generation() {
+        return snapshot.generation();
+    }
+
+    // 교체된 키 목록 전체를 받아 한 번에 바꾼다. 조회 쪽은 락 없이 volatile 참조만 읽는다.
+    // kid가 같으면 같은 키이므로, kid 구성이 그대로면 스냅샷을 바꾸지 않는다.
+    public void replace(Collection<JwtSigningKey> rotatedKeys) {
+        lock.lock();
+        try {
+            Snapshot current = this.snapshot;
+            if (current.rotated().size() == rotatedKeys.size() && rotatedKeys.stream()
+                .allMatch(key -> current.byKid().containsKey(key.kid()))) {
+                return;
+            }
+            this.snapshot = snapshotOf(rotatedKeys, current.generation() + 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Snapshot snapshotOf(Collection<JwtSigningKey> rotatedKeys, long generation) {
+        Map<String, JwtSigningKey> byKid = new HashMap<>();
+        byKid.put(LEGACY_KEY_ID, legacyKey);
+        rotatedKeys.forEach(key -> byKid.put(key.kid(), key));
+        List<JwtSigningKey> newestFirst = rotatedKeys.stream()
+            .sorted(Comparator.comparing(JwtSigningKey::activatesAt).reversed())
+            .toList();
+        return new Snapshot(Map.copyOf(byKid), newestFirst, generation);
+    }
+
+    private record Snapshot(Map<String, JwtSigningKey> byKid, List<JwtSigningKey> rotated,
+                            long generation) {
+
+    }
+}
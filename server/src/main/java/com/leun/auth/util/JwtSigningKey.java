@@ -0,0 +1,11 @@
+package com.leun.auth.util;
+
+import java.security.Key;
+import java.time.Instant;
+
+// kid로 식별되는 서명 키. activatesAt 이후에만 새 토큰 서명에 쓰이고, 검증에는 키 링에 있는 동안
+// 계속 쓰인다.
+public record JwtSigningKey(String kid, JwtAlgorithm algorithm, Key signingKey,
+                            Key verificationKey, Instant activatesAt) {
+
+}
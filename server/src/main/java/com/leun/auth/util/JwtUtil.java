@@ -1,70 +1,111 @@
 package com.leun.auth.util;
 
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.UserRole;
+import com.leun.token.TokenVerifier;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import java.security.Key;
+import java.security.PrivateKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
 
-    private final Key key;
+    private final JwtKeyRing keyRing;
+    private final TokenVerifier tokenVerifier;
 
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
 
-    public JwtUtil(
-        @Value("${jwt.secret}") String secretKey,
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing,
         @Value("${jwt.access-token-expiration}") long accessTokenExpirationTime,
         @Value("${jwt.refresh-token-expiration}") long refreshTokenExpirationTime) {
-        this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.keyRing = keyRing;
+        // 헤더의 alg가 키의 알고리즘과 다르면 거부해 공개 키를 HMAC 비밀로 쓰는 식의
+        // 알고리즘 혼동을 막는다.
+        this.tokenVerifier = new TokenVerifier((kid, algorithm) -> {
+            JwtSigningKey key = keyRing.find(kid);
+            return key != null && key.algorithm().name().equals(algorithm)
+                ? key.verificationKey() : null;
+        });
         this.accessTokenExpirationTime = accessTokenExpirationTime;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
     }
 
-    public String generateAccessToken(String email) {
+    // jwt.secret 키 하나만 쓰는 구성. 테스트와 벤치마크에서 사용한다.
+    public JwtUtil(String secretKey, long accessTokenExpirationTime,
+        long refreshTokenExpirationTime) {
+        this(new JwtKeyRing(secretKey), accessTokenExpirationTime, refreshTokenExpirationTime);
+    }
+
+    public String generateAccessToken(User user) {
+
+        return generateAccessToken(user.getEmail(), user.getId(), user.getUserRole(),
+            user.getTokenVersion());
+    }
 
-        return Jwts.builder()
-            .setSubject(email)
-            .setIssuedAt(new Date())
-            .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpirationTime))
-            .signWith(key, SignatureAlgorithm.HS256)
+    public String generateAccessToken(String email, Long userId, UserRole role,
+        long tokenVersion) {
+
+        return sign(Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject(email)
+            .claim(JwtClaims.USER_ID, userId)
+            .claim(JwtClaims.ROLE, role.name())
+            .claim(JwtClaims.TOKEN_VERSION, tokenVersion)
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + accessTokenExpirationTime)))
             .compact();
     }
 
+    // jti를 넣어 같은 초에 발급된 토큰끼리도 다이제스트가 겹치지 않게 한다.
     public String generateRefreshToken(String email) {
-        return Jwts.builder()
-            .setSubject(email)
-            .setIssuedAt(new Date())
-            .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpirationTime)) // Refresh Token 만료 시간 사용
-            .signWith(key, SignatureAlgorithm.HS256)
+        return sign(Jwts.builder()
+            .id(UUID.randomUUID().toString())
+            .subject(email)
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + refreshTokenExpirationTime))) // Refresh Token 만료 시간 사용
             .compact();
     }
 
+    public long getAccessTokenExpirationTime() {
+        return accessTokenExpirationTime;
+    }
+
+    public long getRefreshTokenExpirationTime() {
+        return refreshTokenExpirationTime;
+    }
+
+    public Optional<JwtClaims> parseToken(String token) {
+
+        return tokenVerifier.verify(token).map(JwtClaims::from);
+    }
+
     public String extractEmail(String token) {
 
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
+        return tokenVerifier.parse(token).email();
     }
 
     public boolean validateToken(String token) {
 
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
-}
 
+    // 현재 서명 키의 kid를 헤더에 넣고, 키에 맞는 알고리즘으로 서명한다.
+    private JwtBuilder sign(JwtBuilder builder) {
+        JwtSigningKey key = keyRing.signingKey();
+        JwtBuilder keyed = builder.header().keyId(key.kid()).and();
+        return switch (key.algorithm()) {
+            case HS256 -> keyed.signWith((SecretKey) key.signingKey(), Jwts.SIG.HS256);
+            case ES256 -> keyed.signWith((PrivateKey) key.signingKey(), Jwts.SIG.ES256);
+            case EdDSA -> keyed.signWith((PrivateKey) key.signingKey(), Jwts.SIG.EdDSA);
+        };
+    }
+}
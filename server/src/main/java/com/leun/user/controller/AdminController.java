@@ -1,12 +1,19 @@
 package com.leun.user.controller;
 
+import com.leun.auth.service.RefreshTokenService;
 import com.leun.user.dto.UserProfileDto;
 import com.leun.user.dto.UserProfileDto.Response;
+import com.leun.user.service.ProjectionETag;
 import com.leun.user.service.UserService;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,9 +22,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
-    public AdminController(UserService userService) {
+    public AdminController(UserService userService, RefreshTokenService refreshTokenService) {
         this.userService = userService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @GetMapping("/admin/profile")
@@ -27,6 +36,22 @@ public class AdminController {
         UserProfileDto.Response response =
             userService.getUserProfileByEmail(userDetails.getUsername());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(ProjectionETag.of(response.getId(), response.getVersion()))
+            .cacheControl(ProjectionETag.CACHE_CONTROL)
+            .body(response);
+    }
+
+    // 해당 사용자의 모든 세션을 끊고, 이미 발급된 Access Token도 버전을 올려 무효화한다.
+    @DeleteMapping("/admin/users/{userId}/sessions")
+    public ResponseEntity<?> revokeUserSessions(@PathVariable Long userId) {
+
+        try {
+            int revoked = refreshTokenService.revokeAllSessions(userId);
+            return ResponseEntity.ok(Map.of("revoked", revoked));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("message", e.getMessage()));
+        }
     }
 }
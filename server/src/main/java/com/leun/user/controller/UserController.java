@@ -4,8 +4,10 @@ import com.leun.user.dto.UserDto;
 import com.leun.user.dto.UserProfileDto;
 import com.leun.user.dto.UserProfileDto.Response;
 import com.leun.user.dto.UserSettingDto;
+import com.leun.user.service.ProjectionETag;
 import com.leun.user.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -41,7 +44,10 @@ public class UserController {
         UserProfileDto.Response response =
             userService.getUserProfileByEmail(userDetails.getUsername());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(ProjectionETag.of(response.getId(), response.getVersion()))
+            .cacheControl(ProjectionETag.CACHE_CONTROL)
+            .body(response);
     }
 
     @GetMapping("/user/setting")
@@ -51,18 +57,25 @@ public class UserController {
         UserSettingDto.Response response =
             userService.getUserSettingByEmail(userDetails.getUsername());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(ProjectionETag.of(response.getId(), response.getVersion()))
+            .cacheControl(ProjectionETag.CACHE_CONTROL)
+            .body(response);
     }
 
     @PatchMapping("/user/profile/name")
     public ResponseEntity<UserProfileDto.Response> updateUserProfileName(
         @AuthenticationPrincipal UserDetails userDetails,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UserProfileDto.Request.Name userProfileDto) throws Exception {
 
         UserProfileDto.Response response =
-            userService.updateUserProfileName(userDetails.getUsername(), userProfileDto.getName());
+            userService.updateUserProfileName(userDetails.getUsername(), userProfileDto.getName(),
+                ifMatch);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(ProjectionETag.of(response.getId(), response.getVersion()))
+            .body(response);
     }
 
     @PostMapping("/user/profile/image")
@@ -80,6 +93,20 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/user/setting")
+    public ResponseEntity<UserSettingDto.Response> updateUserSetting(
+        @AuthenticationPrincipal UserDetails userDetails,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody UserSettingDto.Request.Patch request) throws Exception {
+
+        UserSettingDto.Response response =
+            userService.updateUserSetting(userDetails.getUsername(), request, ifMatch);
+
+        return ResponseEntity.ok()
+            .eTag(ProjectionETag.of(response.getId(), response.getVersion()))
+            .body(response);
+    }
+
     @PatchMapping("/user/setting/language")
     public ResponseEntity<UserSettingDto.Response> updateUserSettingLanguage(
         @AuthenticationPrincipal UserDetails userDetails,
@@ -1,8 +1,11 @@
 package com.leun.user.dto;
 
+import com.leun.user.entity.User.UserRole;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -28,4 +31,25 @@ public class UserDto {
             this.name = name;
         }
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Credentials {
+        private Long id;
+        private String email;
+        private String password;
+        private UserRole userRole;
+        private long tokenVersion;
+        private String name;
+        private String image;
+    }
+
+    public record TokenVersion(Long id, long tokenVersion, Instant updatedAt) {
+
+    }
+
+    // 프로필/설정 행이 수정된 사용자와 수정 뒤 버전
+    public record ProjectionChange(String email, long version, Instant updatedAt) {
+
+    }
 }
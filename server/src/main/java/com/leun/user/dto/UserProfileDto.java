@@ -1,5 +1,6 @@
 package com.leun.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,11 +17,29 @@ public class UserProfileDto {
         private String email;
         private String name;
         private String image;
+        // ETag를 만드는 데만 쓰고 응답 본문에는 넣지 않는다.
+        @JsonIgnore
+        private Long id;
+        @JsonIgnore
+        private Long version;
+
+        public Response(String email, String name, String image) {
+            this.email = email;
+            this.name = name;
+            this.image = image;
+        }
 
         public Response(String name, String image) {
             this.name = name;
             this.image = image;
         }
+
+        public Response(Long id, String name, String image, Long version) {
+            this.id = id;
+            this.name = name;
+            this.image = image;
+            this.version = version;
+        }
     }
 
     public static class Request {
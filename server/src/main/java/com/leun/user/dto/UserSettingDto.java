@@ -1,5 +1,6 @@
 package com.leun.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,7 +16,17 @@ public class UserSettingDto {
         private String language;
         private String country;
         private String timezone;
+        // ETag를 만드는 데만 쓰고 응답 본문에는 넣지 않는다.
+        @JsonIgnore
+        private Long id;
+        @JsonIgnore
+        private Long version;
 
+        public Response(String language, String country, String timezone) {
+            this.language = language;
+            this.country = country;
+            this.timezone = timezone;
+        }
     }
 
     public static class Request {
@@ -43,5 +54,16 @@ public class UserSettingDto {
         public static class Timezone {
             private String timezone;
         }
+
+        // 값이 있는 필드만 바꾼다.
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        @AllArgsConstructor
+        public static class Patch {
+            private String language;
+            private String country;
+            private String timezone;
+        }
     }
 }
\ No newline at end of file
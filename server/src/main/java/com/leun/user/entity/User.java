@@ -3,21 +3,28 @@ package com.leun.user.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_token_version_updated_at", columnList = "token_version_updated_at")
+})
+@EntityListeners(UserEntityListener.class)
 @NoArgsConstructor
 public class User {
     @Id
@@ -44,6 +51,19 @@ public class User {
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private UserSetting userSetting;
 
+    // 올리면 이전 버전으로 발급된 Access Token이 모두 무효가 된다.
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
+    @Column(name = "token_version_updated_at")
+    private Instant tokenVersionUpdatedAt;
+
+    // 낙관적 락. 엔티티로 수정할 때 Hibernate가 확인하고 올리며, JPQL bulk 수정은 직접 올린다.
+    // 토큰 버전 증가는 사용자 데이터 수정이 아니므로 올리지 않는다.
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
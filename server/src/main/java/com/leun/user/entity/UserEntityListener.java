@@ -0,0 +1,25 @@
+package com.leun.user.entity;
+
+import com.leun.user.event.UserChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 엔티티를 통한 가입/권한/비밀번호 변경을 감지해 캐시 무효화 이벤트를 발행한다.
+// JPQL bulk 쿼리는 리스너를 거치지 않으므로 호출하는 쪽에서 직접 이벤트를 발행해야 한다.
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+    }
+}
@@ -1,16 +1,24 @@
 package com.leun.user.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Data
+@Table(indexes = {
+    @Index(name = "idx_user_profile_updated_at", columnList = "updated_at")
+})
 @NoArgsConstructor
 public class UserProfile {
 
@@ -26,6 +34,15 @@ public class UserProfile {
 
     private String image;
 
+    // 낙관적 락. 이름/이미지 수정 쿼리가 직접 올리며, 프로필 ETag에 들어간다.
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 마지막 수정 시각. 다른 노드가 이 값을 증분 폴링해 프로필 캐시를 비운다.
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public UserProfile(User user, String name, String image) {
         this.user = user;
         this.name = name;
@@ -1,16 +1,24 @@
 package com.leun.user.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Data
+@Table(indexes = {
+    @Index(name = "idx_user_setting_updated_at", columnList = "updated_at")
+})
 @NoArgsConstructor
 public class UserSetting {
 
@@ -28,6 +36,15 @@ public class UserSetting {
 
     private String timezone;
 
+    // 낙관적 락. 설정 PATCH의 Criteria 수정이 확인하고 올리며, 설정 ETag에 들어간다.
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 마지막 수정 시각. 다른 노드가 이 값을 증분 폴링해 설정 캐시를 비운다.
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     public UserSetting(User user, String language, String country, String timezone) {
         this.user = user;
         this.language = language;
@@ -0,0 +1,5 @@
+package com.leun.user.event;
+
+public record UserChangedEvent(String email) {
+
+}
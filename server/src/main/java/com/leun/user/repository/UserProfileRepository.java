@@ -1,9 +1,12 @@
 package com.leun.user.repository;
 
+import com.leun.user.dto.UserDto;
 import com.leun.user.dto.UserProfileDto;
 import com.leun.user.entity.User;
 import com.leun.user.entity.UserProfile;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -15,16 +18,21 @@ import org.springframework.stereotype.Repository;
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     Optional<UserProfile> findByUser(User user);
 
-    @Query("SELECT new com.leun.user.dto.UserProfileDto$Response(up.name, up.image) FROM User u JOIN u.userProfile up WHERE u.email = :email")
+    @Query("SELECT new com.leun.user.dto.UserProfileDto$Response(up.id, up.name, up.image, up.version) FROM User u JOIN u.userProfile up WHERE u.email = :email")
     UserProfileDto.Response findUserProfileByEmail(@Param("email") String email);
 
     @Modifying
     @Transactional
-    @Query("UPDATE UserProfile up SET up.name = :name WHERE up.user.email = :email")
-    void updateUserName(@Param("email") String email, @Param("name") String name);
+    @Query("UPDATE UserProfile up SET up.name = :name, up.version = up.version + 1, up.updatedAt = :now WHERE up.user.email = :email AND up.version = :version")
+    int updateUserName(@Param("email") String email, @Param("name") String name,
+        @Param("version") long version, @Param("now") Instant now);
 
     @Modifying
     @Transactional
-    @Query("UPDATE UserProfile up SET up.image = :image WHERE up.user.email = :email")
-    void updateUserImage(@Param("email") String email, @Param("image") String image);
+    @Query("UPDATE UserProfile up SET up.image = :image, up.version = up.version + 1, up.updatedAt = :now WHERE up.user.email = :email")
+    int updateUserImage(@Param("email") String email, @Param("image") String image,
+        @Param("now") Instant now);
+
+    @Query("SELECT new com.leun.user.dto.UserDto$ProjectionChange(u.email, up.version, up.updatedAt) FROM User u JOIN u.userProfile up WHERE up.updatedAt >= :since ORDER BY up.updatedAt")
+    List<UserDto.ProjectionChange> findProfileChangesSince(@Param("since") Instant since);
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.leun.user.repository;
 
+import com.leun.user.dto.UserDto;
 import com.leun.user.entity.User;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,8 +16,30 @@ import org.springframework.stereotype.Repository;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    @Query("SELECT new com.leun.user.dto.UserDto$Credentials(u.id, u.email, u.password, u.userRole, u.tokenVersion, up.name, up.image) FROM User u JOIN u.userProfile up WHERE u.email = :email")
+    Optional<UserDto.Credentials> findCredentialsByEmail(@Param("email") String email);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM User u WHERE u.email = :email")
     void deleteUserByEmail(@Param("email") String email);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password, u.version = u.version + 1 WHERE u.email = :email")
+    void updatePassword(@Param("email") String email, @Param("password") String password);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.leun.user.dto.UserDto$TokenVersion(u.id, u.tokenVersion, u.tokenVersionUpdatedAt) FROM User u WHERE u.tokenVersionUpdatedAt >= :since ORDER BY u.tokenVersionUpdatedAt")
+    List<UserDto.TokenVersion> findTokenVersionsUpdatedSince(@Param("since") Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1, u.tokenVersionUpdatedAt = :now WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id, @Param("now") Instant now);
 }
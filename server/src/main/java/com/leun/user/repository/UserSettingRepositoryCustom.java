@@ -0,0 +1,12 @@
+package com.leun.user.repository;
+
+import com.leun.user.dto.UserSettingDto;
+import java.time.Instant;
+
+public interface UserSettingRepositoryCustom {
+
+    // 요청에 값이 있는 컬럼만 UPDATE 한 번으로 바꾸고 버전과 수정 시각(now)을 올린다.
+    // 버전이 version과 다르거나 모든 값이 이미 같으면 행을 건드리지 않고 0을 반환한다.
+    int updateUserSetting(String email, UserSettingDto.Request.Patch patch, long version,
+        Instant now);
+}
@@ -0,0 +1,53 @@
+package com.leun.user.repository;
+
+import com.leun.user.dto.UserSettingDto;
+import com.leun.user.entity.UserSetting;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserSettingRepositoryCustomImpl implements UserSettingRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateUserSetting(String email, UserSettingDto.Request.Patch patch,
+        long version, Instant now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<UserSetting> update = cb.createCriteriaUpdate(UserSetting.class);
+        Root<UserSetting> us = update.from(UserSetting.class);
+
+        List<Predicate> changed = new ArrayList<>();
+        set(cb, update, us, "language", patch.getLanguage(), changed);
+        set(cb, update, us, "country", patch.getCountry(), changed);
+        set(cb, update, us, "timezone", patch.getTimezone(), changed);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        update.set(us.<Long>get("version"), cb.sum(us.<Long>get("version"), 1L));
+        update.set(us.<Instant>get("updatedAt"), now);
+        update.where(cb.equal(us.get("user").get("email"), email),
+            cb.equal(us.get("version"), version),
+            cb.or(changed.toArray(new Predicate[0])));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static void set(CriteriaBuilder cb, CriteriaUpdate<UserSetting> update,
+        Root<UserSetting> us, String attribute, String value, List<Predicate> changed) {
+        if (value == null) {
+            return;
+        }
+        update.set(us.<String>get(attribute), value);
+        changed.add(cb.or(cb.isNull(us.get(attribute)), cb.notEqual(us.get(attribute), value)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.leun.user.service;
+
+import org.springframework.http.CacheControl;
+
+// 프로필/설정 조회 응답의 강한 ETag. 같은 URL을 여러 사용자가 쓰므로 행 ID와 버전을 함께 넣는다.
+// If-None-Match가 일치하면 Spring이 본문을 직렬화하지 않고 304로 응답한다.
+// 수정 요청의 If-Match는 서비스가 태그 전체를 현재 ETag와 비교하고, 다르면 409로 응답한다.
+public final class ProjectionETag {
+
+    // 브라우저가 저장하되 매번 ETag로 재검증하게 한다.
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ProjectionETag() {
+    }
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // If-Match 헤더가 없거나 "*"이면 조건이 없으므로 통과한다. 태그는 불투명한 값으로 보고
+    // 통째로 비교하므로 다른 행의 ETag는 버전이 같아도 다르다. 약한 ETag(W/)는 항상 다르다.
+    public static boolean matches(String ifMatch, Long id, Long version) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return true;
+        }
+        String current = of(id, version);
+        for (String tag : ifMatch.split(",")) {
+            if (tag.trim().equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
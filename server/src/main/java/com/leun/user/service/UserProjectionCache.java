@@ -0,0 +1,160 @@
+package com.leun.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.leun.user.dto.UserProfileDto;
+import com.leun.user.dto.UserSettingDto;
+import com.leun.user.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 이메일별 프로필/설정 조회 결과 캐시. 조회는 캐시를 먼저 보고, 수정은 커밋 뒤 새 값으로 덮어쓴다.
+// DB에서 읽어 온 값은 putIfAbsent로만 넣어, 조회가 수정보다 늦게 끝나도 수정된 값을 덮지 않는다.
+// 응답 DTO는 setter가 있으므로 캐시에 든 객체를 그대로 내보내지 않고 복사본을 반환한다.
+// 다른 노드의 수정은 UserProjectionPoller가 updated_at을 폴링해 비운다. 탈퇴는 폴링에 잡히지
+// 않으므로 다른 노드에서는 ttl이 지나야 사라진다.
+@Component
+public class UserProjectionCache implements MeterBinder {
+
+    private final Cache<String, UserProfileDto.Response> profiles;
+    private final Cache<String, UserSettingDto.Response> settings;
+
+    public UserProjectionCache(
+        @Value("${user.projection-cache.maximum-size:10000}") long maximumSize,
+        @Value("${user.projection-cache.ttl:10m}") Duration ttl) {
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.settings = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    // 로더가 null을 반환하면 캐시하지 않고 null을 반환한다.
+    // Cache.get(key, loader)는 DB 조회 동안 버킷 락을 잡으므로 락 밖에서 조회한다.
+    public UserProfileDto.Response profile(String email,
+        Supplier<UserProfileDto.Response> loader) {
+
+        UserProfileDto.Response cached = profiles.getIfPresent(email);
+        if (cached == null) {
+            UserProfileDto.Response loaded = loader.get();
+            if (loaded == null) {
+                return null;
+            }
+            cached = profiles.asMap().putIfAbsent(email, copyOf(loaded));
+            if (cached == null) {
+                return loaded;
+            }
+        }
+        return copyOf(cached);
+    }
+
+    public UserSettingDto.Response setting(String email,
+        Supplier<UserSettingDto.Response> loader) {
+
+        UserSettingDto.Response cached = settings.getIfPresent(email);
+        if (cached == null) {
+            UserSettingDto.Response loaded = loader.get();
+            if (loaded == null) {
+                return null;
+            }
+            cached = settings.asMap().putIfAbsent(email, copyOf(loaded));
+            if (cached == null) {
+                return loaded;
+            }
+        }
+        return copyOf(cached);
+    }
+
+    public void putProfile(String email, UserProfileDto.Response profile) {
+        UserProfileDto.Response stored = copyOf(profile);
+        afterCommit(() -> profiles.put(email, stored));
+    }
+
+    public void putSetting(String email, UserSettingDto.Response setting) {
+        UserSettingDto.Response stored = copyOf(setting);
+        afterCommit(() -> settings.put(email, stored));
+    }
+
+    // 탈퇴 등 사용자 변경이 커밋된 뒤에 캐시를 비운다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.email());
+    }
+
+    public void evict(String email) {
+        profiles.invalidate(email);
+        settings.invalidate(email);
+    }
+
+    public void evictProfile(String email) {
+        profiles.invalidate(email);
+    }
+
+    public void evictSetting(String email) {
+        settings.invalidate(email);
+    }
+
+    // 다른 노드의 수정을 반영한다. 캐시된 버전이 이미 같거나 높으면(이 노드가 쓴 값) 그대로 둔다.
+    public void evictProfileOlderThan(String email, long version) {
+        profiles.asMap().computeIfPresent(email,
+            (key, cached) -> cached.getVersion() < version ? null : cached);
+    }
+
+    public void evictSettingOlderThan(String email, long version) {
+        settings.asMap().computeIfPresent(email,
+            (key, cached) -> cached.getVersion() < version ? null : cached);
+    }
+
+    public CacheStats profileStats() {
+        return profiles.stats();
+    }
+
+    public CacheStats settingStats() {
+        return settings.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, profiles, "userProfiles");
+        CaffeineCacheMetrics.monitor(registry, settings, "userSettings");
+    }
+
+    // 롤백된 수정이 캐시에 남지 않도록 트랜잭션 안에서는 커밋 뒤에 반영한다.
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static UserProfileDto.Response copyOf(UserProfileDto.Response profile) {
+        return new UserProfileDto.Response(profile.getEmail(), profile.getName(),
+            profile.getImage(), profile.getId(), profile.getVersion());
+    }
+
+    private static UserSettingDto.Response copyOf(UserSettingDto.Response setting) {
+        return new UserSettingDto.Response(setting.getLanguage(), setting.getCountry(),
+            setting.getTimezone(), setting.getId(), setting.getVersion());
+    }
+}
@@ -0,0 +1,65 @@
+package com.leun.user.service;
+
+import com.leun.user.dto.UserDto;
+import com.leun.user.repository.UserProfileRepository;
+import com.leun.user.repository.UserSettingRepository;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 다른 노드에서 수정된 프로필/설정을 이 노드의 UserProjectionCache에서 비운다.
+// user_profile/user_setting의 updated_at을 증분 폴링하며, 캐시 ttl보다 오래된 행은 읽지 않는다.
+// 그보다 오래전에 바뀌었다면 이전 값은 이미 캐시에서 만료됐다.
+@Component
+public class UserProjectionPoller {
+
+    private final UserProfileRepository userProfileRepository;
+    private final UserSettingRepository userSettingRepository;
+    private final UserProjectionCache userProjectionCache;
+    private final Duration retention;
+    private final Duration clockSkewTolerance;
+    private volatile Instant profilesSeen;
+    private volatile Instant settingsSeen;
+
+    public UserProjectionPoller(UserProfileRepository userProfileRepository,
+        UserSettingRepository userSettingRepository, UserProjectionCache userProjectionCache,
+        @Value("${user.projection-cache.ttl:10m}") Duration retention,
+        @Value("${user.projection-cache.clock-skew-tolerance:5s}") Duration clockSkewTolerance) {
+        this.userProfileRepository = userProfileRepository;
+        this.userSettingRepository = userSettingRepository;
+        this.userProjectionCache = userProjectionCache;
+        this.retention = retention;
+        this.clockSkewTolerance = clockSkewTolerance;
+    }
+
+    // 노드 간 시계 차이로 늦게 기록된 행을 놓치지 않도록 마지막으로 본 시각보다 조금 앞에서부터
+    // 읽는다. 다시 읽은 행은 캐시된 버전이 이미 같으므로 비우지 않는다.
+    @Scheduled(fixedDelayString = "${user.projection-cache.poll-interval:1000}")
+    public void poll() {
+        Instant now = Instant.now();
+        for (UserDto.ProjectionChange changed : userProfileRepository.findProfileChangesSince(
+            since(profilesSeen, now))) {
+            userProjectionCache.evictProfileOlderThan(changed.email(), changed.version());
+            profilesSeen = latest(profilesSeen, changed.updatedAt());
+        }
+        for (UserDto.ProjectionChange changed : userSettingRepository.findSettingChangesSince(
+            since(settingsSeen, now))) {
+            userProjectionCache.evictSettingOlderThan(changed.email(), changed.version());
+            settingsSeen = latest(settingsSeen, changed.updatedAt());
+        }
+    }
+
+    private Instant since(Instant lastSeen, Instant now) {
+        Instant since = now.minus(retention);
+        if (lastSeen != null && lastSeen.minus(clockSkewTolerance).isAfter(since)) {
+            since = lastSeen.minus(clockSkewTolerance);
+        }
+        return since;
+    }
+
+    private static Instant latest(Instant lastSeen, Instant updatedAt) {
+        return lastSeen == null || updatedAt.isAfter(lastSeen) ? updatedAt : lastSeen;
+    }
+}
@@ -9,12 +9,16 @@ import com.leun.user.entity.User.ProviderType;
 import com.leun.user.entity.User.UserRole;
 import com.leun.user.entity.UserProfile;
 import com.leun.user.entity.UserSetting;
+import com.leun.user.event.UserChangedEvent;
 import com.leun.user.repository.UserProfileRepository;
 import com.leun.user.repository.UserRepository;
 import com.leun.user.repository.UserSettingRepository;
 import jakarta.transaction.Transactional;
+import java.time.Instant;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +30,8 @@ public class UserService {
     private final UserProfileRepository userProfileRepository;
     private final UserSettingRepository userSettingRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserProjectionCache userProjectionCache;
 
     @Transactional
     public void register(UserDto.Request request) throws Exception {
@@ -62,18 +68,19 @@ public class UserService {
 
     public UserProfileDto.Response getUserProfileByEmail(String email) throws Exception {
 
-        UserProfileDto.Response profile = userProfileRepository.findUserProfileByEmail(email);
+        UserProfileDto.Response profile = userProjectionCache.profile(email,
+            () -> findUserProfile(email));
         if (profile == null) {
             throw new NoSuchElementException("User profile not found for email: " + email);
         }
 
-        profile.setEmail(email);
         return profile;
     }
 
     public UserSettingDto.Response getUserSettingByEmail(String email) throws Exception {
 
-        UserSettingDto.Response setting = userSettingRepository.findUserSettingByEmail(email);
+        UserSettingDto.Response setting = userProjectionCache.setting(email,
+            () -> userSettingRepository.findUserSettingByEmail(email));
 
         if (setting == null) {
             throw new NoSuchElementException("User setting not found for email: " + email);
@@ -84,9 +91,41 @@ public class UserService {
     @Transactional
     public UserProfileDto.Response updateUserProfileName(String email, String name) throws Exception {
 
-        userProfileRepository.updateUserName(email, name);
+        return updateUserProfileName(email, name, null);
+    }
+
+    // 수정 전 상태(캐시 또는 DB)에 바꾼 값을 덮어 응답을 만든다. UPDATE 뒤에 다시 SELECT하지 않는다.
+    // 이름이 이미 같으면 쓰지 않고 수정 전 상태를 그대로 반환한다.
+    // 수정 전 상태를 UPDATE보다 먼저 읽어, 캐시에 커밋되지 않은 값이 들어가지 않게 한다.
+    // UPDATE는 수정 전 버전일 때만 적용되므로, 응답의 버전(수정 전 + 1)은 DB와 항상 같다.
+    // If-Match가 있으면 태그 전체(행 ID와 버전)가 DB의 현재 ETag와 같을 때만 수정하고, 아니면 충돌로 본다.
+    @Transactional
+    public UserProfileDto.Response updateUserProfileName(String email, String name,
+        String ifMatch) throws Exception {
+
+        UserProfileDto.Response current = getUserProfileByEmail(email);
+        if (!ProjectionETag.matches(ifMatch, current.getId(), current.getVersion())) {
+            current = reloadProfile(email, ifMatch);
+        }
+        if (!changes(current.getName(), name)) {
+            return current;
+        }
 
-        return userProfileRepository.findUserProfileByEmail(email);
+        if (userProfileRepository.updateUserName(email, name, current.getVersion(),
+            Instant.now()) == 0) {
+            // 캐시된 상태가 다른 노드의 수정보다 오래됐다. DB에서 다시 읽어 한 번 더 시도한다.
+            current = reloadProfile(email, ifMatch);
+            if (userProfileRepository.updateUserName(email, name, current.getVersion(),
+                Instant.now()) == 0) {
+                throw new OptimisticLockingFailureException(
+                    "User profile was modified concurrently: " + email);
+            }
+        }
+
+        UserProfileDto.Response updated = new UserProfileDto.Response(email, name,
+            current.getImage(), current.getId(), current.getVersion() + 1);
+        userProjectionCache.putProfile(email, updated);
+        return updated;
     }
 
     @Transactional
@@ -102,35 +141,139 @@ public class UserService {
     @Transactional
     public UserSettingDto.Response updateUserSettingLanguage(String email, String language) throws Exception {
 
-        userSettingRepository.updateUserLanguage(email, language);
-
-        return userSettingRepository.findUserSettingByEmail(email);
+        return updateUserSetting(email, new UserSettingDto.Request.Patch(language, null, null));
     }
 
     @Transactional
     public UserSettingDto.Response updateUserSettingCountry(String email, String country) throws Exception {
 
-        userSettingRepository.updateUserCountry(email, country);
-
-        return userSettingRepository.findUserSettingByEmail(email);
+        return updateUserSetting(email, new UserSettingDto.Request.Patch(null, country, null));
     }
 
     @Transactional
     public UserSettingDto.Response updateUserSettingTimezone(String email, String timezone) throws Exception {
 
-        userSettingRepository.updateUserTimezone(email, timezone);
+        return updateUserSetting(email, new UserSettingDto.Request.Patch(null, null, timezone));
+    }
+
+    @Transactional
+    public UserSettingDto.Response updateUserSetting(String email,
+        UserSettingDto.Request.Patch patch) throws Exception {
 
-        return userSettingRepository.findUserSettingByEmail(email);
+        return updateUserSetting(email, patch, null);
+    }
+
+    // 현재 설정(캐시 또는 DB)에 요청 값을 덮어 응답을 만들고, 바뀐 컬럼만 UPDATE 한 번으로 쓴다.
+    // UPDATE 뒤에 다시 SELECT하지 않는다. 수정 전 상태와 달라지는 값이 없으면 쓰지 않는다.
+    // If-Match가 있으면 태그 전체(행 ID와 버전)가 DB의 현재 ETag와 같을 때만 수정하고, 아니면 충돌로 본다.
+    @Transactional
+    public UserSettingDto.Response updateUserSetting(String email,
+        UserSettingDto.Request.Patch patch, String ifMatch) throws Exception {
+
+        UserSettingDto.Response current = getUserSettingByEmail(email);
+        if (!ProjectionETag.matches(ifMatch, current.getId(), current.getVersion())) {
+            current = reloadSetting(email, ifMatch);
+        }
+        if (!changes(current, patch)) {
+            return current;
+        }
+
+        if (userSettingRepository.updateUserSetting(email, patch, current.getVersion(),
+            Instant.now()) == 0) {
+            // 캐시된 상태가 다른 노드의 수정보다 오래됐다.
+            // DB에서 다시 읽어 바뀐 값이 있을 때만 한 번 더 시도한다.
+            current = reloadSetting(email, ifMatch);
+            if (!changes(current, patch)) {
+                return current;
+            }
+            if (userSettingRepository.updateUserSetting(email, patch, current.getVersion(),
+                Instant.now()) == 0) {
+                throw new OptimisticLockingFailureException(
+                    "User setting was modified concurrently: " + email);
+            }
+        }
+
+        UserSettingDto.Response updated = applyPatch(current, patch);
+        updated.setVersion(current.getVersion() + 1);
+        userProjectionCache.putSetting(email, updated);
+        return updated;
     }
 
     @Transactional
     public void removeUser(String email) throws Exception {
 
         userRepository.deleteUserByEmail(email);
+
+        eventPublisher.publishEvent(new UserChangedEvent(email));
+    }
+
+    @Transactional
+    public void updatePassword(String email, String encodedPassword) {
+
+        userRepository.updatePassword(email, encodedPassword);
+
+        eventPublisher.publishEvent(new UserChangedEvent(email));
     }
 
     public User findUserByEmail(String email) throws Exception {
         return userRepository.findByEmail(email)
             .orElseThrow(() -> new NoSuchElementException("User Does Not Exist"));
     }
+
+    private UserProfileDto.Response findUserProfile(String email) {
+
+        UserProfileDto.Response profile = userProfileRepository.findUserProfileByEmail(email);
+        if (profile != null) {
+            profile.setEmail(email);
+        }
+        return profile;
+    }
+
+    // 캐시를 비우고 DB에서 다시 읽는다. If-Match가 있으면 DB의 현재 ETag와 같은지 확인한다.
+    private UserProfileDto.Response reloadProfile(String email, String ifMatch)
+        throws Exception {
+
+        userProjectionCache.evictProfile(email);
+        UserProfileDto.Response current = getUserProfileByEmail(email);
+        requireMatch(ifMatch, current.getId(), current.getVersion(), email);
+        return current;
+    }
+
+    private UserSettingDto.Response reloadSetting(String email, String ifMatch)
+        throws Exception {
+
+        userProjectionCache.evictSetting(email);
+        UserSettingDto.Response current = getUserSettingByEmail(email);
+        requireMatch(ifMatch, current.getId(), current.getVersion(), email);
+        return current;
+    }
+
+    private static void requireMatch(String ifMatch, Long id, Long version, String email) {
+        if (!ProjectionETag.matches(ifMatch, id, version)) {
+            throw new OptimisticLockingFailureException("If-Match " + ifMatch
+                + " does not match " + ProjectionETag.of(id, version) + ": " + email);
+        }
+    }
+
+    private static boolean changes(UserSettingDto.Response current,
+        UserSettingDto.Request.Patch patch) {
+
+        return changes(current.getLanguage(), patch.getLanguage())
+            || changes(current.getCountry(), patch.getCountry())
+            || changes(current.getTimezone(), patch.getTimezone());
+    }
+
+    private static boolean changes(String current, String requested) {
+        return requested != null && !requested.equals(current);
+    }
+
+    private static UserSettingDto.Response applyPatch(UserSettingDto.Response current,
+        UserSettingDto.Request.Patch patch) {
+
+        return new UserSettingDto.Response(
+            patch.getLanguage() != null ? patch.getLanguage() : current.getLanguage(),
+            patch.getCountry() != null ? patch.getCountry() : current.getCountry(),
+            patch.getTimezone() != null ? patch.getTimezone() : current.getTimezone(),
+            current.getId(), current.getVersion());
+    }
 }
@@ -0,0 +1,116 @@
+package com.leun.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+// 로컬 스텁 서버로 OAuth 공급자 호출용 RestTemplate의 타임아웃/리다이렉트 설정을 확인한다.
+class OAuthHttpClientConfigurationTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private final OAuthHttpClientConfiguration configuration = new OAuthHttpClientConfiguration();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private String baseUrl;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, 200, "ok"));
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "late");
+        });
+        server.createContext("/redirect", exchange -> {
+            exchange.getResponseHeaders().set("Location", baseUrl + "/fast");
+            respond(exchange, 302, "");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        HttpClient httpClient = configuration.oauthHttpClient(Duration.ofSeconds(1), false);
+        restTemplate = configuration.restTemplate(new RestTemplateBuilder(), httpClient,
+            READ_TIMEOUT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("restTemplate - 읽기 타임아웃 안에 온 응답은 그대로 반환")
+    void restTemplate_FastResponse_Succeeds() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/fast",
+            String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("restTemplate - 응답이 읽기 타임아웃보다 늦으면 기다리지 않고 실패")
+    void restTemplate_SlowResponse_TimesOut() {
+        // When
+        long startedAt = System.nanoTime();
+        ResourceAccessException thrown = assertThrows(ResourceAccessException.class,
+            () -> restTemplate.getForEntity(baseUrl + "/slow", String.class));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(thrown).hasRootCauseInstanceOf(HttpTimeoutException.class);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    @DisplayName("restTemplate - 공급자의 리다이렉트는 따라가지 않음")
+    void restTemplate_Redirect_IsNotFollowed() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/redirect",
+            String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FOUND);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
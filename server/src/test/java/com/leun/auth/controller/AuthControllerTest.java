@@ -2,7 +2,7 @@ package com.leun.auth.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -10,18 +10,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leun.auth.config.SecurityConfiguration;
 import com.leun.auth.dto.AuthDto;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.AuthService;
 import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.RefreshTokenCoalescer;
+import com.leun.auth.service.RefreshTokenService;
+import com.leun.auth.service.TokenVersionRegistry;
 import com.leun.auth.util.JwtUtil;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -39,7 +42,10 @@ class AuthControllerTest {
     private AuthService authService;
 
     @MockitoBean
-    private AuthenticationManager authenticationManager;
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private RefreshTokenCoalescer refreshTokenCoalescer;
 
     @MockitoBean
     private JwtUtil jwtUtil;
@@ -47,6 +53,12 @@ class AuthControllerTest {
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @Test
     @DisplayName("POST /v1/auth/login - 로그인 성공 시 200 OK 및 토큰 반환")
     void login_Success() throws Exception {
@@ -74,9 +86,8 @@ class AuthControllerTest {
         // Given
         AuthDto.Request loginRequest = new AuthDto.Request("wrong@example.com", "wrongpassword");
 
-        doThrow(new BadCredentialsException("Invalid email or password"))
-            .when(authenticationManager)
-            .authenticate(any(UsernamePasswordAuthenticationToken.class));
+        given(authService.login(any(AuthDto.Request.class)))
+            .willThrow(new BadCredentialsException("Invalid email or password"));
 
         // When & Then
         mockMvc.perform(post("/v1/auth/login")
@@ -98,4 +109,20 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(invalidRequest)))
             .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /v1/auth/logout - Refresh Token 삭제와 함께 Authorization 헤더의 Access Token 폐기")
+    void logout_RevokesAccessToken() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/v1/auth/logout")
+                .header("Authorization", "Bearer mock_access_token")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    Map.of("refreshToken", "mock_refresh_token"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("Logout successful."));
+
+        verify(refreshTokenService).logout("mock_refresh_token");
+        verify(accessTokenRevocationList).revoke("mock_access_token");
+    }
+}
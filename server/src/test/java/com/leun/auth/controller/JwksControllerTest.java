@@ -0,0 +1,76 @@
+package com.leun.auth.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.leun.auth.config.SecurityConfiguration;
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.JwksPublisher;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.util.JwtUtil;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(JwksController.class)
+@Import(SecurityConfiguration.class)
+class JwksControllerTest {
+
+    private static final String BODY = "{\"keys\":[]}";
+    private static final String ETAG = "\"abc123\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwksPublisher jwksPublisher;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        given(jwksPublisher.document()).willReturn(
+            new JwksPublisher.Document(1L, BODY.getBytes(StandardCharsets.UTF_8), ETAG));
+    }
+
+    @Test
+    @DisplayName("GET /.well-known/jwks.json - 인증 없이 미리 만든 문서를 ETag, Cache-Control과 함께 반환")
+    void getJwks_Success() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+            .andExpect(content().contentType("application/json"))
+            .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("GET /.well-known/jwks.json - If-None-Match가 일치하면 본문 없이 304")
+    void getJwks_NotModified() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(content().bytes(new byte[0]));
+    }
+}
@@ -14,8 +14,10 @@ import com.leun.auth.dto.AuthDto;
 import com.leun.auth.dto.OAuthDto;
 import com.leun.auth.dto.OAuthDto.GoogleRequest;
 import com.leun.auth.dto.OAuthDto.NaverRequest;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.CustomUserDetailsService;
 import com.leun.auth.service.OAuthService;
+import com.leun.auth.service.TokenVersionRegistry;
 import com.leun.auth.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,12 @@ public class OAuthControllerTest {
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @MockitoBean
     private OAuthService oAuthService;
 
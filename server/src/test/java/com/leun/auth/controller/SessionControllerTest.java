@@ -0,0 +1,113 @@
+package com.leun.auth.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.leun.auth.config.SecurityConfiguration;
+import com.leun.auth.dto.SessionDto;
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.RefreshTokenService;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.util.JwtUtil;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SessionController.class)
+@Import(SecurityConfiguration.class)
+class SessionControllerTest {
+
+    private static final String EMAIL = "authenticated@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockitoBean
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Test
+    @DisplayName("GET /v1/auth/sessions - 최근 사용 순으로 세션 목록 반환")
+    void getSessions_Success() throws Exception {
+        // Given
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        given(refreshTokenService.getSessions(EMAIL)).willReturn(List.of(
+            new SessionDto.Response(2L, now, now.plusSeconds(60)),
+            new SessionDto.Response(1L, now, now)));
+
+        // When & Then
+        mockMvc.perform(get("/v1/auth/sessions").with(user(EMAIL)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].id").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /v1/auth/sessions - 인증 없이 요청하면 401")
+    void getSessions_Unauthenticated() throws Exception {
+        mockMvc.perform(get("/v1/auth/sessions"))
+            .andExpect(status().isUnauthorized());
+
+        verify(refreshTokenService, never()).getSessions(EMAIL);
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/auth/sessions/{id} - 세션 폐기 시 204")
+    void revokeSession_Success() throws Exception {
+        mockMvc.perform(delete("/v1/auth/sessions/1").with(user(EMAIL)))
+            .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).revokeSession(EMAIL, 1L);
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/auth/sessions/{id} - 본인 세션이 아니면 404")
+    void revokeSession_NotFound() throws Exception {
+        // Given
+        willThrow(new NoSuchElementException("Session not found: 9"))
+            .given(refreshTokenService).revokeSession(EMAIL, 9L);
+
+        // When & Then
+        mockMvc.perform(delete("/v1/auth/sessions/9").with(user(EMAIL)))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Session not found: 9"));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/auth/sessions - 모든 세션 폐기")
+    void revokeAllSessions_Success() throws Exception {
+        // Given
+        given(refreshTokenService.revokeAllSessions(EMAIL)).willReturn(3);
+
+        // When & Then
+        mockMvc.perform(delete("/v1/auth/sessions").with(user(EMAIL)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.revoked").value(3));
+    }
+}
@@ -0,0 +1,194 @@
+package com.leun.auth.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leun.auth.service.AccessTokenRevocationList;
+import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.TokenVersionRegistry;
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.ProviderType;
+import com.leun.user.entity.User.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 120_000L);
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private AccessTokenRevocationList revocationList;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("claims-only 모드 - DB 조회 없이 토큰의 권한으로 인증")
+    void doFilter_ClaimsOnly_AuthenticatesWithoutLookup() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, true);
+        MockHttpServletRequest request = requestWithToken(jwtUtil.generateAccessToken(admin()));
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("admin@example.com");
+        assertThat(authentication.getAuthorities())
+            .containsExactly(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("기본 모드 - UserDetailsService로 사용자 조회")
+    void doFilter_Default_LoadsUserDetails() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, false);
+        MockHttpServletRequest request = requestWithToken(jwtUtil.generateAccessToken(admin()));
+        given(userDetailsService.loadUserByUsername("admin@example.com")).willReturn(
+            org.springframework.security.core.userdetails.User.withUsername("admin@example.com")
+                .password("encodedPassword")
+                .authorities("ROLE_ADMIN")
+                .build());
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName())
+            .isEqualTo("admin@example.com");
+        verify(userDetailsService).loadUserByUsername("admin@example.com");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - 인증 정보를 설정하지 않음")
+    void doFilter_InvalidToken_LeavesContextEmpty() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, true);
+
+        // When
+        filter.doFilter(requestWithToken("invalid.token.value"), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 - 서명이 유효해도 인증 정보를 설정하지 않음")
+    void doFilter_RevokedToken_LeavesContextEmpty() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, true);
+        String token = jwtUtil.generateAccessToken(admin());
+        given(revocationList.isRevoked(jwtUtil.parseToken(token).orElseThrow().jti()))
+            .willReturn(true);
+
+        // When
+        filter.doFilter(requestWithToken(token), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("이전 토큰 버전 - 사용자의 토큰 버전이 올라갔으면 인증 정보를 설정하지 않음")
+    void doFilter_StaleTokenVersion_LeavesContextEmpty() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, true);
+        given(tokenVersionRegistry.isStale(1L, 0L)).willReturn(true);
+
+        // When
+        filter.doFilter(requestWithToken(jwtUtil.generateAccessToken(admin())),
+            new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("Refresh Token - 서명이 유효해도 Bearer 토큰으로는 인증하지 않음")
+    void doFilter_RefreshToken_LeavesContextEmpty() throws Exception {
+        // Given
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, false);
+
+        // When
+        filter.doFilter(requestWithToken(jwtUtil.generateRefreshToken("admin@example.com")),
+            new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 Refresh Token - claims-only 모드에서도 Bearer 토큰으로 인증하지 않음")
+    void doFilter_LoggedOutRefreshTokenClaimsOnly_LeavesContextEmpty() throws Exception {
+        // Given: 로그아웃은 Refresh Token 행만 지우므로 JWT 자체는 만료 전까지 서명이 유효하다.
+        JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, revocationList,
+                tokenVersionRegistry, true);
+        String refreshToken = jwtUtil.generateRefreshToken("admin@example.com");
+
+        // When
+        filter.doFilter(requestWithToken(refreshToken), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private MockHttpServletRequest requestWithToken(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/user/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private User admin() {
+        User user = new User("admin@example.com", "encodedPassword", ProviderType.LOCAL,
+            UserRole.ROLE_ADMIN);
+        user.setId(1L);
+        return user;
+    }
+}
@@ -0,0 +1,141 @@
+package com.leun.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leun.auth.entity.RefreshToken;
+import com.leun.auth.util.TokenDigest;
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.ProviderType;
+import com.leun.user.entity.User.UserRole;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+// 조건부 UPDATE의 의미는 실제 DB에서만 확인할 수 있으므로 설정된 MySQL에 대해 실행한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class RefreshTokenRepositoryTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(10);
+    private static final String T0 = TokenDigest.sha256Hex("refresh-token-0");
+    private static final String T1 = TokenDigest.sha256Hex("refresh-token-1");
+    private static final String T2 = TokenDigest.sha256Hex("refresh-token-2");
+    private static final String T3 = TokenDigest.sha256Hex("refresh-token-3");
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long userId;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persistAndFlush(new User("rotation@example.com",
+            "encodedPassword", ProviderType.LOCAL, UserRole.ROLE_USER));
+        userId = user.getId();
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        refreshTokenRepository.insertToken(userId, T0, now, now.plus(Duration.ofDays(1)));
+    }
+
+    @Test
+    @DisplayName("rotate 후 rotateFromPrevious - 먼저 교체한 요청의 토큰을 덮어쓰지 않음")
+    void rotateThenRotateFromPrevious_KeepsBothTokensAccepted() {
+        // Given
+        rotateA();
+
+        // When
+        int rotated = rotateB();
+
+        // Then
+        assertThat(rotated).isEqualTo(1);
+        entityManager.clear();
+        RefreshToken byT1 = refreshTokenRepository.findWithUserByAcceptedTokenHash(T1)
+            .orElseThrow();
+        RefreshToken byT2 = refreshTokenRepository.findWithUserByAcceptedTokenHash(T2)
+            .orElseThrow();
+        assertThat(byT1.getId()).isEqualTo(byT2.getId());
+        assertThat(byT1.getTokenHash()).isEqualTo(T1);
+        assertThat(byT1.getGraceTokenHash()).isEqualTo(T2);
+    }
+
+    @Test
+    @DisplayName("rotate 후 rotateFromPrevious - 먼저 교체한 요청이 받은 토큰으로 다시 교체 가능")
+    void rotateThenRotateFromPrevious_WinnerTokenRedeemable() {
+        // Given
+        rotateA();
+        rotateB();
+
+        // When
+        int redeemed = refreshTokenRepository.rotate(userId, T1, T3, now.plusSeconds(2),
+            now.plus(Duration.ofDays(1)));
+
+        // Then
+        assertThat(redeemed).isEqualTo(1);
+        entityManager.clear();
+        RefreshToken stored = refreshTokenRepository.findWithUserByAcceptedTokenHash(T3)
+            .orElseThrow();
+        assertThat(stored.getPreviousTokenHash()).isEqualTo(T1);
+        assertThat(stored.getGraceTokenHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("rotate 후 rotateFromPrevious - 유예 경로로 받은 토큰으로도 다시 교체 가능")
+    void rotateThenRotateFromPrevious_GraceTokenRedeemable() {
+        // Given
+        rotateA();
+        rotateB();
+
+        // When
+        int redeemed = refreshTokenRepository.rotate(userId, T2, T3, now.plusSeconds(2),
+            now.plus(Duration.ofDays(1)));
+
+        // Then
+        assertThat(redeemed).isEqualTo(1);
+        entityManager.clear();
+        RefreshToken stored = refreshTokenRepository.findWithUserByAcceptedTokenHash(T3)
+            .orElseThrow();
+        assertThat(stored.getPreviousTokenHash()).isEqualTo(T2);
+        assertThat(stored.getGraceTokenHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("rotateFromPrevious - 유예 시간이 지나면 직전 토큰을 거부")
+    void rotateFromPrevious_AfterGracePeriod_Rejected() {
+        // Given
+        rotateA();
+
+        // When
+        int rotated = refreshTokenRepository.rotateFromPrevious(userId, T0, T2,
+            now.plus(GRACE_PERIOD).plusSeconds(1), now.plus(Duration.ofDays(1)),
+            now.plusSeconds(1));
+
+        // Then
+        assertThat(rotated).isZero();
+    }
+
+    // A: 현재 토큰 T0을 T1로 교체한다.
+    private void rotateA() {
+        assertThat(refreshTokenRepository.rotate(userId, T0, T1, now,
+            now.plus(Duration.ofDays(1)))).isEqualTo(1);
+    }
+
+    // B: 같은 T0으로 늦게 들어와 현재 토큰 교체에 실패하고 유예 경로로 T2를 받는다.
+    private int rotateB() {
+        Instant usedAt = now.plusSeconds(1);
+        assertThat(refreshTokenRepository.rotate(userId, T0, T2, usedAt,
+            now.plus(Duration.ofDays(1)))).isZero();
+        return refreshTokenRepository.rotateFromPrevious(userId, T0, T2, usedAt,
+            now.plus(Duration.ofDays(1)), usedAt.minus(GRACE_PERIOD));
+    }
+}
@@ -0,0 +1,158 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leun.auth.entity.RevokedAccessToken;
+import com.leun.auth.repository.RevokedAccessTokenRepository;
+import com.leun.auth.util.JwtClaims;
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.ProviderType;
+import com.leun.user.entity.User.UserRole;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationListTest {
+
+    private static final Duration LOOKBACK = Duration.ofSeconds(5);
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 120_000L);
+
+    @Mock
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new AccessTokenRevocationList(revokedAccessTokenRepository, jwtUtil,
+            1000, 0.001, 2, LOOKBACK);
+    }
+
+    @Test
+    @DisplayName("revoke - 토큰의 jti와 exp를 기록하고 즉시 폐기로 판정")
+    void revoke_RecordsJtiUntilExpiry() {
+        // Given
+        String token = jwtUtil.generateAccessToken(testUser());
+        JwtClaims claims = jwtUtil.parseToken(token).orElseThrow();
+
+        // When
+        revocationList.revoke(token);
+
+        // Then
+        ArgumentCaptor<RevokedAccessToken> saved = ArgumentCaptor.forClass(
+            RevokedAccessToken.class);
+        verify(revokedAccessTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getJti()).isEqualTo(claims.jti());
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(claims.expiresAt());
+        assertThat(revocationList.isRevoked(claims.jti())).isTrue();
+    }
+
+    @Test
+    @DisplayName("isRevoked - 폐기되지 않은 jti는 거짓")
+    void isRevoked_UnknownJti_ReturnsFalse() {
+        assertThat(revocationList.isRevoked("00000000-0000-0000-0000-000000000000")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("revoke - 유효하지 않은 토큰은 기록하지 않음")
+    void revoke_InvalidToken_IsIgnored() {
+        // When
+        revocationList.revoke("invalid.token.value");
+
+        // Then
+        verify(revokedAccessTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("poll - 다른 노드의 폐기를 (revokedAt, id) 커서로 이어서 가져오고 만료된 항목은 제거")
+    void poll_AppliesNewRowsIncrementallyAndEvictsExpired() {
+        // Given
+        Instant future = Instant.now().plusSeconds(60);
+        Instant revokedAt = Instant.now().minusSeconds(30);
+        given(revokedAccessTokenRepository.findUnexpiredRevokedAfter(eq(Instant.EPOCH), eq(0L),
+            any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(revoked(1L, "jti-1", revokedAt, future),
+                revoked(2L, "jti-2", revokedAt.plusSeconds(1), future)));
+        given(revokedAccessTokenRepository.findUnexpiredRevokedAfter(
+            eq(revokedAt.plusSeconds(1)), eq(2L), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(revoked(3L, "jti-3", revokedAt.plusSeconds(2),
+                Instant.now().minusSeconds(1))));
+
+        // When
+        revocationList.poll();
+
+        // Then
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isTrue();
+        assertThat(revocationList.isRevoked("jti-3")).isFalse();
+        assertThat(revocationList.size()).isEqualTo(2);
+
+        // 다음 폴링은 마지막으로 본 폐기 시각보다 lookback만큼 앞에서부터 조회한다.
+        revocationList.poll();
+        verify(revokedAccessTokenRepository).findUnexpiredRevokedAfter(
+            eq(revokedAt.plusSeconds(2).minus(LOOKBACK)), eq(0L), any(Instant.class),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("poll - 더 큰 id를 본 뒤 늦게 커밋된 더 작은 id도 다음 폴링에서 반영")
+    void poll_LateCommittedLowerId_IsApplied() {
+        // Given
+        Instant future = Instant.now().plusSeconds(60);
+        Instant revokedAt = Instant.now().minusSeconds(10);
+        given(revokedAccessTokenRepository.findUnexpiredRevokedAfter(eq(Instant.EPOCH), eq(0L),
+            any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(revoked(8L, "jti-8", revokedAt.plusMillis(10), future)));
+        revocationList.poll();
+
+        // id 7은 id 8보다 먼저 발급됐지만 그 뒤에 커밋됐다.
+        given(revokedAccessTokenRepository.findUnexpiredRevokedAfter(
+            eq(revokedAt.plusMillis(10).minus(LOOKBACK)), eq(0L), any(Instant.class),
+            any(Pageable.class)))
+            .willReturn(List.of(revoked(7L, "jti-7", revokedAt, future),
+                revoked(8L, "jti-8", revokedAt.plusMillis(10), future)));
+
+        // When
+        revocationList.poll();
+
+        // Then
+        assertThat(revocationList.isRevoked("jti-7")).isTrue();
+        assertThat(revocationList.isRevoked("jti-8")).isTrue();
+        assertThat(revocationList.size()).isEqualTo(2);
+    }
+
+    private RevokedAccessToken revoked(long id, String jti, Instant revokedAt,
+        Instant expiresAt) {
+        RevokedAccessToken token = new RevokedAccessToken(jti, expiresAt);
+        ReflectionTestUtils.setField(token, "id", id);
+        ReflectionTestUtils.setField(token, "revokedAt", revokedAt);
+        return token;
+    }
+
+    private User testUser() {
+        User user = new User("test@example.com", "encodedPassword", ProviderType.LOCAL,
+            UserRole.ROLE_USER);
+        user.setId(42L);
+        return user;
+    }
+}
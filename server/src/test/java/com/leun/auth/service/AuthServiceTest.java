@@ -4,25 +4,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.leun.auth.dto.AuthDto;
 import com.leun.auth.util.JwtUtil;
-import com.leun.user.entity.User;
-import com.leun.user.entity.UserProfile;
-import com.leun.user.repository.UserProfileRepository;
+import com.leun.user.dto.UserDto;
+import com.leun.user.entity.User.UserRole;
+import com.leun.user.repository.UserRepository;
 import com.leun.user.service.UserService;
-import java.util.NoSuchElementException;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -31,96 +34,111 @@ public class AuthServiceTest {
     private UserService userService;
 
     @Mock
-    private UserProfileRepository userProfileRepository;
+    private UserRepository userRepository;
 
     @Mock
     private JwtUtil jwtUtil;
 
-    @InjectMocks
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     private AuthService authService;
 
+    private final String email = "test@example.com";
+    private final String password = "password123";
+
+    @BeforeEach
+    void setUp() {
+        given(passwordEncoder.encode("userNotFoundPassword")).willReturn("dummyHash");
+        authService = new AuthService(userService, userRepository, jwtUtil, refreshTokenService,
+            passwordEncoder);
+    }
+
     @Test
-    @DisplayName("login - 유효한 이메일로 로그인 성공 시 토큰과 사용자 정보 반환")
-    void login_Success_WithValidEmail() throws Exception {
+    @DisplayName("login - 유효한 자격증명이면 토큰과 사용자 정보 반환")
+    void login_Success_WithValidCredentials() throws Exception {
         // Given
-        String email = "test@example.com";
-        String password = "password123";
-        String userName = "Test User";
-        String userImage = "/path/to/image.jpg";
-        String jwtToken = "mock-jwt-token";
-
         AuthDto.Request loginRequest = new AuthDto.Request(email, password);
-        User mockUser = new User();
-        mockUser.setEmail(email);
-
-        UserProfile mockProfile = new UserProfile();
-        mockProfile.setName(userName);
-        mockProfile.setImage(userImage);
-        mockProfile.setUser(mockUser);
+        UserDto.Credentials credentials = credentials();
 
-        given(userService.findUserByEmail(email)).willReturn(mockUser);
-        given(jwtUtil.generateAccessToken(email)).willReturn(jwtToken);
-        given(userProfileRepository.findByUser(mockUser)).willReturn(Optional.of(mockProfile));
+        given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(credentials));
+        given(passwordEncoder.matches(password, "encodedPassword")).willReturn(true);
+        given(jwtUtil.generateAccessToken(email, 1L, UserRole.ROLE_USER, 0L)).willReturn("mock-access-token");
+        given(jwtUtil.generateRefreshToken(email)).willReturn("mock-refresh-token");
 
         // When
         AuthDto.Response loginResponse = authService.login(loginRequest);
 
         // Then
         assertNotNull(loginResponse);
-        assertEquals(userName, loginResponse.getName());
-        assertEquals(userImage, loginResponse.getImage());
-        assertEquals(jwtToken, loginResponse.getAccessToken());
-
-        verify(userService, times(1)).findUserByEmail(email);
-        verify(userProfileRepository, times(1)).findByUser(mockUser);
-        verify(jwtUtil, times(1)).generateAccessToken(email);
+        assertEquals("Test User", loginResponse.getName());
+        assertEquals("/path/to/image.jpg", loginResponse.getImage());
+        assertEquals("mock-access-token", loginResponse.getAccessToken());
+        assertEquals("mock-refresh-token", loginResponse.getRefreshToken());
+
+        verify(userRepository, times(1)).findCredentialsByEmail(email);
+        verify(refreshTokenService, times(1)).createSession(1L, "mock-refresh-token");
+        verify(userService, never()).updatePassword(anyString(), anyString());
     }
 
     @Test
-    @DisplayName("login - 사용자 프로필을 찾을 수 없을 때 NoSuchElementException 발생")
-    void login_ThrowsNoSuchElementException_WhenUserProfileNotFound() throws Exception {
+    @DisplayName("login - 비밀번호가 틀리면 BadCredentialsException 발생")
+    void login_ThrowsBadCredentials_WhenPasswordMismatch() {
         // Given
-        String email = "test@example.com";
-        String password = "password123";
-        AuthDto.Request loginRequest = new AuthDto.Request(email, password);
-        User mockUser = new User();
-        mockUser.setEmail(email);
+        AuthDto.Request loginRequest = new AuthDto.Request(email, "wrongpassword");
 
-        given(userService.findUserByEmail(email)).willReturn(mockUser);
-        given(userProfileRepository.findByUser(mockUser)).willReturn(Optional.empty());
+        given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(credentials()));
+        given(passwordEncoder.matches("wrongpassword", "encodedPassword")).willReturn(false);
 
         // When & Then
-        NoSuchElementException thrown = assertThrows(NoSuchElementException.class, () -> {
-            authService.login(loginRequest);
-        });
+        BadCredentialsException thrown = assertThrows(BadCredentialsException.class,
+            () -> authService.login(loginRequest));
 
-        assertEquals("User Does Not Exist", thrown.getMessage());
+        assertEquals("Invalid email or password", thrown.getMessage());
+        verify(jwtUtil, never()).generateRefreshToken(anyString());
+        verify(refreshTokenService, never()).createSession(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("login - 사용자가 없어도 해시 비교를 수행한 뒤 BadCredentialsException 발생")
+    void login_ThrowsBadCredentials_WhenUserNotFound() {
+        // Given
+        AuthDto.Request loginRequest = new AuthDto.Request("nonexistent@example.com", password);
+
+        given(userRepository.findCredentialsByEmail("nonexistent@example.com"))
+            .willReturn(Optional.empty());
 
-        verify(userService, times(1)).findUserByEmail(email);
-        verify(userProfileRepository, times(1)).findByUser(mockUser);
-        verify(jwtUtil, times(0)).generateAccessToken(email);
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginRequest));
+
+        verify(passwordEncoder, times(1)).matches(password, "dummyHash");
+        verify(refreshTokenService, never()).createSession(anyLong(), anyString());
     }
 
     @Test
-    @DisplayName("login - 사용자를 찾을 수 없을 때 UserService의 예외가 전파됨")
-    void login_PropagatesException_WhenUserNotFoundByUserService() throws Exception {
+    @DisplayName("login - 저장된 해시의 cost가 다르면 비밀번호를 재해시")
+    void login_RehashesPassword_WhenEncodingOutdated() throws Exception {
         // Given
-        String email = "nonexistent@example.com";
-        String password = "password";
         AuthDto.Request loginRequest = new AuthDto.Request(email, password);
 
-        RuntimeException userNotFoundException = new RuntimeException("User not found in UserService");
-        given(userService.findUserByEmail(email)).willThrow(userNotFoundException);
+        given(userRepository.findCredentialsByEmail(email)).willReturn(Optional.of(credentials()));
+        given(passwordEncoder.matches(password, "encodedPassword")).willReturn(true);
+        given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+        given(passwordEncoder.encode(password)).willReturn("rehashedPassword");
+        given(jwtUtil.generateAccessToken(any(), any(), any(), anyLong())).willReturn("mock-access-token");
 
-        // When & Then
-        RuntimeException thrown = assertThrows(RuntimeException.class, () -> {
-            authService.login(loginRequest);
-        });
+        // When
+        authService.login(loginRequest);
 
-        assertEquals("User not found in UserService", thrown.getMessage());
+        // Then
+        verify(userService, times(1)).updatePassword(email, "rehashedPassword");
+    }
 
-        verify(userService, times(1)).findUserByEmail(email);
-        verify(userProfileRepository, times(0)).findByUser(any(User.class));
-        verify(jwtUtil, times(0)).generateAccessToken(anyString());
+    private UserDto.Credentials credentials() {
+        return new UserDto.Credentials(1L, email, "encodedPassword", UserRole.ROLE_USER, 0L,
+            "Test User", "/path/to/image.jpg");
     }
 }
@@ -0,0 +1,155 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.leun.user.event.UserChangedEvent;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class CachedUserDetailsServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private UserDetailsService delegate;
+
+    private CachedUserDetailsService cachedUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        cachedUserDetailsService = new CachedUserDetailsService(delegate, 100,
+            Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 두 번째 조회는 캐시에서 반환")
+    void loadUserByUsername_SecondCall_HitsCache() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL)).willReturn(userDetails());
+
+        // When
+        cachedUserDetailsService.loadUserByUsername(EMAIL);
+        UserDetails result = cachedUserDetailsService.loadUserByUsername(EMAIL);
+
+        // Then
+        assertThat(result.getUsername()).isEqualTo(EMAIL);
+        assertThat(result.getPassword()).isEqualTo("encodedPassword");
+        verify(delegate, times(1)).loadUserByUsername(EMAIL);
+        assertThat(cachedUserDetailsService.stats().hitCount()).isEqualTo(1);
+        assertThat(cachedUserDetailsService.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 반환된 객체의 비밀번호를 지워도 캐시는 영향 없음")
+    void loadUserByUsername_ErasedCopy_DoesNotCorruptCache() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL)).willReturn(userDetails());
+
+        // When
+        ((User) cachedUserDetailsService.loadUserByUsername(EMAIL)).eraseCredentials();
+
+        // Then
+        assertThat(cachedUserDetailsService.loadUserByUsername(EMAIL).getPassword())
+            .isEqualTo("encodedPassword");
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 존재하지 않는 사용자는 짧은 시간 동안 부정 캐시")
+    void loadUserByUsername_MissingUser_CachesNegativeResult() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL))
+            .willThrow(new UsernameNotFoundException("User not found with email: " + EMAIL));
+
+        // When & Then
+        assertThrows(UsernameNotFoundException.class,
+            () -> cachedUserDetailsService.loadUserByUsername(EMAIL));
+        assertThrows(UsernameNotFoundException.class,
+            () -> cachedUserDetailsService.loadUserByUsername(EMAIL));
+
+        verify(delegate, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("onUserChanged - 사용자 변경 이벤트가 오면 캐시를 비움")
+    void onUserChanged_EvictsEntry() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL))
+            .willThrow(new UsernameNotFoundException("User not found with email: " + EMAIL))
+            .willReturn(userDetails());
+        assertThrows(UsernameNotFoundException.class,
+            () -> cachedUserDetailsService.loadUserByUsername(EMAIL));
+
+        // When
+        cachedUserDetailsService.onUserChanged(new UserChangedEvent(EMAIL));
+
+        // Then
+        assertThat(cachedUserDetailsService.loadUserByUsername(EMAIL).getUsername())
+            .isEqualTo(EMAIL);
+        verify(delegate, times(2)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 조회 중에 무효화가 끼어들면 조회한 값을 캐시에 넣지 않음")
+    void loadUserByUsername_EvictedDuringLoad_DoesNotCacheStaleValue() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL))
+            .willAnswer(invocation -> {
+                // 조회가 끝난 뒤 저장하기 전에 권한 변경 커밋의 무효화가 도착한다.
+                cachedUserDetailsService.onUserChanged(new UserChangedEvent(EMAIL));
+                return userDetails();
+            })
+            .willReturn(User.withUsername(EMAIL)
+                .password("encodedPassword")
+                .authorities("ROLE_ADMIN")
+                .build());
+
+        // When
+        cachedUserDetailsService.loadUserByUsername(EMAIL);
+        UserDetails result = cachedUserDetailsService.loadUserByUsername(EMAIL);
+
+        // Then
+        assertThat(result.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verify(delegate, times(2)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 조회 중에 가입이 커밋되면 없음 결과를 부정 캐시에 넣지 않음")
+    void loadUserByUsername_RegisteredDuringLoad_DoesNotCacheMissing() {
+        // Given
+        given(delegate.loadUserByUsername(EMAIL))
+            .willAnswer(invocation -> {
+                cachedUserDetailsService.onUserChanged(new UserChangedEvent(EMAIL));
+                throw new UsernameNotFoundException("User not found with email: " + EMAIL);
+            })
+            .willReturn(userDetails());
+
+        // When
+        assertThrows(UsernameNotFoundException.class,
+            () -> cachedUserDetailsService.loadUserByUsername(EMAIL));
+
+        // Then
+        assertThat(cachedUserDetailsService.loadUserByUsername(EMAIL).getUsername())
+            .isEqualTo(EMAIL);
+    }
+
+    private UserDetails userDetails() {
+        return User.withUsername(EMAIL)
+            .password("encodedPassword")
+            .authorities("ROLE_USER")
+            .build();
+    }
+}
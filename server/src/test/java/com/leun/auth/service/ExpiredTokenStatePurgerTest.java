@@ -0,0 +1,145 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenStatePurgerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement lockStatement;
+
+    @Mock
+    private PreparedStatement releaseStatement;
+
+    @Mock
+    private PreparedStatement deleteStatement;
+
+    @Mock
+    private ResultSet lockResult;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExpiredTokenStatePurger purger;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        purger = new ExpiredTokenStatePurger(jdbcTemplate, meterRegistry, BATCH_SIZE, 10,
+            Duration.ZERO);
+
+        given(jdbcTemplate.execute(any(ConnectionCallback.class))).willAnswer(
+            invocation -> invocation.<ConnectionCallback<?>>getArgument(0)
+                .doInConnection(connection));
+        given(connection.prepareStatement(startsWith("SELECT GET_LOCK"))).willReturn(
+            lockStatement);
+        given(lockStatement.executeQuery()).willReturn(lockResult);
+        given(lockResult.next()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("purgeExpiredTokens - 배치가 가득 차지 않을 때까지 나눠 지우고 삭제 건수 기록")
+    void purgeExpiredTokens_DeletesInBatches() throws Exception {
+        // Given
+        given(lockResult.getInt(1)).willReturn(1);
+        given(connection.prepareStatement(startsWith("DELETE FROM"))).willReturn(deleteStatement);
+        given(connection.prepareStatement(startsWith("SELECT RELEASE_LOCK"))).willReturn(
+            releaseStatement);
+        // refresh_tokens: 2 + 2 + 1, revoked_access_tokens: 0, jwt_signing_keys: 0
+        given(deleteStatement.executeUpdate()).willReturn(BATCH_SIZE, BATCH_SIZE, 1, 0);
+
+        // When
+        purger.purgeExpiredTokens();
+
+        // Then
+        verify(deleteStatement, times(5)).executeUpdate();
+        verify(releaseStatement).execute();
+        assertThat(meterRegistry.counter("refresh.tokens.purged").count()).isEqualTo(5.0);
+        assertThat(meterRegistry.counter("revoked.access.tokens.purged").count()).isZero();
+        assertThat(meterRegistry.counter("jwt.signing.keys.purged").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("purgeExpiredTokens - 다른 노드가 락을 잡고 있으면 아무것도 지우지 않음")
+    void purgeExpiredTokens_LockHeldElsewhere_Skips() throws Exception {
+        // Given
+        given(lockResult.getInt(1)).willReturn(0);
+
+        // When
+        purger.purgeExpiredTokens();
+
+        // Then
+        verify(connection, never()).prepareStatement(startsWith("DELETE"));
+        assertThat(meterRegistry.counter("refresh.tokens.purged").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("purgeExpiredTokens - JVM 기본 시간대와 무관하게 기준 시각을 UTC로 바인딩")
+    void purgeExpiredTokens_NonUtcDefaultZone_BindsCutoffInUtc() throws Exception {
+        // Given
+        given(lockResult.getInt(1)).willReturn(1);
+        given(connection.prepareStatement(startsWith("DELETE FROM"))).willReturn(deleteStatement);
+        given(connection.prepareStatement(startsWith("SELECT RELEASE_LOCK"))).willReturn(
+            releaseStatement);
+        given(deleteStatement.executeUpdate()).willReturn(0);
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        Instant before = Instant.now();
+
+        // When
+        try {
+            purger.purgeExpiredTokens();
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+
+        // Then: 드라이버가 Calendar 기준으로 만드는 벽시계 값이 UTC 시각과 같아야 한다.
+        Instant after = Instant.now();
+        ArgumentCaptor<Timestamp> cutoff = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<Calendar> calendar = ArgumentCaptor.forClass(Calendar.class);
+        verify(deleteStatement, times(3)).setTimestamp(eq(1), cutoff.capture(),
+            calendar.capture());
+        assertThat(calendar.getValue().getTimeZone().getID()).isEqualTo("UTC");
+        assertThat(cutoff.getValue().toInstant()).isBetween(before, after);
+
+        Calendar utc = calendar.getValue();
+        utc.setTimeInMillis(cutoff.getValue().getTime());
+        ZonedDateTime expected = cutoff.getValue().toInstant().atZone(ZoneOffset.UTC);
+        assertThat(utc.get(Calendar.HOUR_OF_DAY)).isEqualTo(expected.getHour());
+        assertThat(utc.get(Calendar.DAY_OF_MONTH)).isEqualTo(expected.getDayOfMonth());
+    }
+}
@@ -5,9 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -15,9 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
 import com.leun.auth.config.OAuthConfig;
 import com.leun.auth.dto.AuthDto;
@@ -33,15 +30,12 @@ import com.leun.user.repository.UserSettingRepository;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.Optional;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedConstruction;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.client.RestTemplate;
@@ -61,6 +55,9 @@ class GoogleOAuthServiceTest {
     @Mock
     private UserSettingRepository userSettingRepository;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -70,18 +67,12 @@ class GoogleOAuthServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private GoogleTokenClient googleTokenClient;
+
     @InjectMocks
     private OAuthService oAuthService;
 
-    private final String TEST_GOOGLE_CLIENT_ID = "googleClientId";
-    private final String TEST_GOOGLE_CLIENT_SECRET = "googleClientSecret";
-    private final String TEST_GOOGLE_REDIRECT_URI = "googleRedirectUri";
-
-    @BeforeEach
-    void setUp() {
-
-    }
-
     @Test
     @DisplayName("Google Login - 새로운 사용자 성공")
     void googleLoginWithAuthCode_NewUser_Success() throws Exception {
@@ -90,93 +81,56 @@ class GoogleOAuthServiceTest {
         String testName = "New User";
         String testImageUrl = "http://example.com/newuser.jpg";
 
-        // Mock GoogleTokenResponse
-        GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
-        when(mockTokenResponse.getIdToken()).thenReturn("validIdTokenString");
-
-        // Mock GoogleIdToken.Payload
-        GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class);
-        when(mockPayload.getEmail()).thenReturn(testEmail);
-        when(mockPayload.get("name")).thenReturn(testName);
-        when(mockPayload.get("picture")).thenReturn(testImageUrl);
-
-        // Mock GoogleIdToken
-        GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
-        when(mockIdToken.getPayload()).thenReturn(mockPayload);
-
-        // Mock GoogleIdTokenVerifier
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        when(mockIdTokenVerifier.verify(anyString())).thenReturn(mockIdToken);
-
-        // Use mockConstruction to mock the creation of GoogleAuthorizationCodeTokenRequest and GoogleIdTokenVerifier
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> {
-                // Assert constructor arguments if needed
-                // assertEquals(TEST_GOOGLE_CLIENT_ID, context.arguments().get(2));
-                when(mock.execute()).thenReturn(mockTokenResponse);
-            });
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier);
-                })) {
-
-            // Mock UserRepository to simulate no existing user
-            when(userRepository.findByEmail(testEmail)).thenReturn(Optional.empty());
-            // Mock UserRepository save to return the user object
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenAnswer(
-                invocation -> invocation.getArgument(0));
-            when(userProfileRepository.save(any())).thenAnswer(
-                invocation -> invocation.getArgument(0));
-            when(userSettingRepository.save(any())).thenAnswer(
-                invocation -> invocation.getArgument(0));
-            when(jwtUtil.generateAccessToken(anyString())).thenReturn("testJwtToken");
-
-            // Call the method under test
-            AuthDto.Response response = oAuthService.googleLoginWithAuthCode(authCode);
-
-            // Verify the result
-            assertNotNull(response);
-            assertEquals(testName, response.getName());
-            assertEquals(testImageUrl, response.getImage());
-            assertEquals("testJwtToken", response.getAccessToken());
-
-            // Verify interactions
-            verify(userRepository, times(1)).findByEmail(testEmail);
-            // Capture the User object saved
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository, times(1)).save(userCaptor.capture());
-            User savedUser = userCaptor.getValue();
-            assertEquals(testEmail, savedUser.getEmail());
-            assertEquals(ProviderType.GOOGLE, savedUser.getProvider());
-            assertEquals(UserRole.ROLE_USER, savedUser.getUserRole());
-            assertEquals("encodedPassword", savedUser.getPassword()); // Verify password encoding
-
-            // Capture UserProfile and UserSetting objects saved
-            ArgumentCaptor<UserProfile> userProfileCaptor = ArgumentCaptor.forClass(
-                UserProfile.class);
-            verify(userProfileRepository, times(1)).save(userProfileCaptor.capture());
-            UserProfile savedProfile = userProfileCaptor.getValue();
-            assertEquals(testName, savedProfile.getName());
-            assertEquals(testImageUrl, savedProfile.getImage());
-            assertEquals(savedUser, savedProfile.getUser());
-
-            ArgumentCaptor<UserSetting> userSettingCaptor = ArgumentCaptor.forClass(
-                UserSetting.class);
-            verify(userSettingRepository, times(1)).save(userSettingCaptor.capture());
-            UserSetting savedSetting = userSettingCaptor.getValue();
-            assertEquals(savedUser, savedSetting.getUser());
-
-            verify(passwordEncoder, times(1)).encode(anyString()); // Check if encoding was called
-            verify(jwtUtil, times(1)).generateAccessToken(testEmail);
-        }
+        givenVerifiedIdToken(authCode, testEmail, testName, testImageUrl);
+
+        // Mock UserRepository to simulate no existing user
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(
+            invocation -> invocation.getArgument(0));
+        when(userProfileRepository.save(any())).thenAnswer(
+            invocation -> invocation.getArgument(0));
+        when(userSettingRepository.save(any())).thenAnswer(
+            invocation -> invocation.getArgument(0));
+        when(jwtUtil.generateAccessToken(any(User.class))).thenReturn("testJwtToken");
+
+        // Call the method under test
+        AuthDto.Response response = oAuthService.googleLoginWithAuthCode(authCode);
+
+        // Verify the result
+        assertNotNull(response);
+        assertEquals(testName, response.getName());
+        assertEquals(testImageUrl, response.getImage());
+        assertEquals("testJwtToken", response.getAccessToken());
+
+        // Verify interactions
+        verify(userRepository, times(1)).findByEmail(testEmail);
+        // Capture the User object saved
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository, times(1)).save(userCaptor.capture());
+        User savedUser = userCaptor.getValue();
+        assertEquals(testEmail, savedUser.getEmail());
+        assertEquals(ProviderType.GOOGLE, savedUser.getProvider());
+        assertEquals(UserRole.ROLE_USER, savedUser.getUserRole());
+        assertEquals("encodedPassword", savedUser.getPassword()); // Verify password encoding
+
+        // Capture UserProfile and UserSetting objects saved
+        ArgumentCaptor<UserProfile> userProfileCaptor = ArgumentCaptor.forClass(
+            UserProfile.class);
+        verify(userProfileRepository, times(1)).save(userProfileCaptor.capture());
+        UserProfile savedProfile = userProfileCaptor.getValue();
+        assertEquals(testName, savedProfile.getName());
+        assertEquals(testImageUrl, savedProfile.getImage());
+        assertEquals(savedUser, savedProfile.getUser());
+
+        ArgumentCaptor<UserSetting> userSettingCaptor = ArgumentCaptor.forClass(
+            UserSetting.class);
+        verify(userSettingRepository, times(1)).save(userSettingCaptor.capture());
+        UserSetting savedSetting = userSettingCaptor.getValue();
+        assertEquals(savedUser, savedSetting.getUser());
+
+        verify(passwordEncoder, times(1)).encode(anyString()); // Check if encoding was called
+        verify(jwtUtil, times(1)).generateAccessToken(argThat(u -> testEmail.equals(u.getEmail())));
     }
 
     @Test
@@ -190,68 +144,33 @@ class GoogleOAuthServiceTest {
         // Create an existing user entity
         User existingUser = new User(testEmail, "hashedPassword", ProviderType.GOOGLE,
             UserRole.ROLE_USER);
-        UserProfile existingProfile = new UserProfile(existingUser, testName, testImageUrl);
-        UserSetting existingSetting = new UserSetting(existingUser, "Korean", "South Korea",
-            "KST +09:00");
 
-        // Mock GoogleTokenResponse
-        GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
+        givenVerifiedIdToken(authCode, testEmail, testName, testImageUrl);
 
-        when(mockTokenResponse.getIdToken()).thenReturn("validIdTokenString");
+        // Mock UserRepository to simulate an existing Google user
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(existingUser));
+        when(jwtUtil.generateAccessToken(any(User.class))).thenReturn("testJwtToken");
 
-        // Mock GoogleIdToken.Payload
-        GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class);
-        when(mockPayload.getEmail()).thenReturn(testEmail);
-        when(mockPayload.get("name")).thenReturn(testName);
-        when(mockPayload.get("picture")).thenReturn(testImageUrl);
+        // Call the method under test
+        AuthDto.Response response = oAuthService.googleLoginWithAuthCode(authCode);
 
-        // Mock GoogleIdToken
-        GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
-        when(mockIdToken.getPayload()).thenReturn(mockPayload);
+        // Verify the result
+        assertNotNull(response);
+
+        assertEquals(testName, response.getName());
+        assertEquals(testImageUrl, response.getImage());
+        assertEquals("testJwtToken", response.getAccessToken());
 
-        // Mock GoogleIdTokenVerifier
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        when(mockIdTokenVerifier.verify(anyString())).thenReturn(mockIdToken);
-
-        // Use mockConstruction to mock the creation
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse));
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier);
-                })) {
-
-            // Mock UserRepository to simulate an existing Google user
-            when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(existingUser));
-            when(jwtUtil.generateAccessToken(anyString())).thenReturn("testJwtToken");
-
-            // Call the method under test
-            AuthDto.Response response = oAuthService.googleLoginWithAuthCode(authCode);
-
-            // Verify the result
-            assertNotNull(response);
-
-            assertEquals(testName, response.getName());
-            assertEquals(testImageUrl, response.getImage());
-            assertEquals("testJwtToken", response.getAccessToken());
-
-            // Verify interactions
-            verify(userRepository, times(1)).findByEmail(testEmail);
-            verify(userRepository, never()).save(any(User.class)); // Should not save
-            verify(userProfileRepository, never()).save(
-                any(UserProfile.class)); // Should not save profile
-            verify(userSettingRepository, never()).save(
-                any(UserSetting.class)); // Should not save settings
-            verify(passwordEncoder, never()).encode(
-                anyString()); // Should not encode password for existing user
-            verify(jwtUtil, times(1)).generateAccessToken(testEmail);
-        }
+        // Verify interactions
+        verify(userRepository, times(1)).findByEmail(testEmail);
+        verify(userRepository, never()).save(any(User.class)); // Should not save
+        verify(userProfileRepository, never()).save(
+            any(UserProfile.class)); // Should not save profile
+        verify(userSettingRepository, never()).save(
+            any(UserSetting.class)); // Should not save settings
+        verify(passwordEncoder, never()).encode(
+            anyString()); // Should not encode password for existing user
+        verify(jwtUtil, times(1)).generateAccessToken(argThat(u -> testEmail.equals(u.getEmail())));
     }
 
     @Test
@@ -266,54 +185,22 @@ class GoogleOAuthServiceTest {
         User existingUser = new User(testEmail, "hashedPassword", ProviderType.NAVER,
             UserRole.ROLE_USER);
 
-        // Mock GoogleTokenResponse
-        GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
+        givenVerifiedIdToken(authCode, testEmail, testName, testImageUrl);
 
-        when(mockTokenResponse.getIdToken()).thenReturn("validIdTokenString");
+        // Mock UserRepository to simulate an existing user with Naver provider
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(existingUser));
 
-        // Mock GoogleIdToken.Payload
-        GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class);
-        when(mockPayload.getEmail()).thenReturn(testEmail);
-        when(mockPayload.get("name")).thenReturn(testName);
-        when(mockPayload.get("picture")).thenReturn(testImageUrl);
+        // Call the method under test and expect an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
 
-        // Mock GoogleIdToken
-        GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
-        when(mockIdToken.getPayload()).thenReturn(mockPayload);
+        // Verify the exception message
+        assertEquals("이미 가입된 이메일입니다.", exception.getMessage());
 
-        // Mock GoogleIdTokenVerifier
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        when(mockIdTokenVerifier.verify(anyString())).thenReturn(mockIdToken);
-
-        // Use mockConstruction to mock the creation
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse));
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier);
-                })) {
-
-            // Mock UserRepository to simulate an existing user with Naver provider
-            when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(existingUser));
-
-            // Call the method under test and expect an exception
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertEquals("이미 가입된 이메일입니다.", exception.getMessage());
-
-            // Verify interactions
-            verify(userRepository, times(1)).findByEmail(testEmail);
-            verify(userRepository, never()).save(any(User.class)); // Should not save
-            verify(jwtUtil, never()).generateAccessToken(anyString()); // Should not generate token
-        }
+        // Verify interactions
+        verify(userRepository, times(1)).findByEmail(testEmail);
+        verify(userRepository, never()).save(any(User.class)); // Should not save
+        verify(jwtUtil, never()).generateAccessToken(any(User.class)); // Should not generate token
     }
 
     @Test
@@ -331,246 +218,151 @@ class GoogleOAuthServiceTest {
 
         // Verify no interactions with dependencies
         verifyNoInteractions(oauthConfig, userRepository, userProfileRepository,
-            userSettingRepository, passwordEncoder, jwtUtil, restTemplate);
+            userSettingRepository, passwordEncoder, jwtUtil, restTemplate, googleTokenClient);
     }
 
 
     @Test
     @DisplayName("Google Login - 토큰 교환 실패 (IOException)")
-    void googleLoginWithAuthCode_TokenExchangeFails_ThrowsException() {
+    void googleLoginWithAuthCode_TokenExchangeFails_ThrowsException() throws Exception {
         String authCode = "authCode";
 
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
-        // Use mockConstruction to mock the creation of GoogleAuthorizationCodeTokenRequest and throw IOException
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenThrow(
-                new IOException("Simulated IO Error")))) {
-
-            // Call the method under test and expect an exception
-            Exception exception = assertThrows(Exception.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertTrue(exception.getMessage()
-                .contains("Failed to exchange auth code for tokens with Google."));
-            assertTrue(exception.getCause() instanceof IOException);
-
-            // Verify minimal interactions
-            verify(oauthConfig, atLeastOnce()).getGoogleClientId(); // Called in constructor
-            verify(oauthConfig, atLeastOnce()).getGoogleClientSecret(); // Called in constructor
-            verify(oauthConfig, atLeastOnce()).getGoogleRedirectUri(); // Called in constructor
-            verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
-                passwordEncoder, jwtUtil, restTemplate);
-        }
+        when(googleTokenClient.exchangeAuthCode(authCode)).thenThrow(
+            new IOException("Simulated IO Error"));
+
+        // Call the method under test and expect an exception
+        Exception exception = assertThrows(Exception.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
+
+        // Verify the exception message
+        assertTrue(exception.getMessage()
+            .contains("Failed to exchange auth code for tokens with Google."));
+        assertTrue(exception.getCause() instanceof IOException);
+
+        // Verify minimal interactions
+        verify(googleTokenClient, never()).verify(anyString());
+        verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
+            passwordEncoder, jwtUtil, restTemplate);
     }
 
     @Test
     @DisplayName("Google Login - ID 토큰 응답 누락 실패")
-    void googleLoginWithAuthCode_IdTokenMissing_ThrowsException() {
+    void googleLoginWithAuthCode_IdTokenMissing_ThrowsException() throws Exception {
         String authCode = "authCode";
 
         // Mock GoogleTokenResponse with null ID token
         GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
         when(mockTokenResponse.getIdToken()).thenReturn(null); // Simulate missing ID token
+        when(googleTokenClient.exchangeAuthCode(authCode)).thenReturn(mockTokenResponse);
+
+        // Call the method under test and expect an exception
+        Exception exception = assertThrows(Exception.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
 
-        // Use mockConstruction to mock the creation of GoogleAuthorizationCodeTokenRequest
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse))) {
-
-            // Call the method under test and expect an exception
-            Exception exception = assertThrows(Exception.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertEquals("ID token not received from Google token endpoint.",
-                exception.getMessage());
-
-            // Verify minimal interactions
-            verify(oauthConfig, atLeastOnce()).getGoogleClientId(); // Called in constructor
-            verify(oauthConfig, atLeastOnce()).getGoogleClientSecret(); // Called in constructor
-            verify(oauthConfig, atLeastOnce()).getGoogleRedirectUri(); // Called in constructor
-            verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
-                passwordEncoder, jwtUtil, restTemplate);
-        }
+        // Verify the exception message
+        assertEquals("ID token not received from Google token endpoint.",
+            exception.getMessage());
+
+        // Verify minimal interactions
+        verify(googleTokenClient, never()).verify(anyString());
+        verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
+            passwordEncoder, jwtUtil, restTemplate);
     }
 
     @Test
     @DisplayName("Google Login - ID 토큰 검증 실패 (GeneralSecurityException)")
     void googleLoginWithAuthCode_IdTokenVerificationFailsSecurity_ThrowsException()
-        throws GeneralSecurityException, IOException {
+        throws Exception {
         String authCode = "authCode";
         String validIdTokenString = "validIdTokenString";
 
-        // Mock GoogleTokenResponse with a valid ID token string
-        GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
-        when(mockTokenResponse.getIdToken()).thenReturn(validIdTokenString);
-
-        // Mock GoogleIdTokenVerifier to throw GeneralSecurityException on verify
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        try {
-            when(mockIdTokenVerifier.verify(validIdTokenString)).thenThrow(
-                new GeneralSecurityException("Simulated Security Error"));
-        } catch (GeneralSecurityException | IOException e) {
-            // This block is just to satisfy the throws clause of verify, won't be executed
-        }
-
-        // Use mockConstruction to mock the creation
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse));
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier); // Return the mock verifier
-                })) {
-
-            // Call the method under test and expect an exception
-            Exception exception = assertThrows(Exception.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertTrue(exception.getMessage().contains("Failed to verify Google ID token."));
-            assertTrue(exception.getCause() instanceof GeneralSecurityException);
-
-            // Verify interactions
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientId(); // Called in constructor and verifier builder
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientSecret(); // Called in request constructor
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleRedirectUri(); // Called in request constructor
-            verify(mockIdTokenVerifier, times(1)).verify(
-                validIdTokenString); // Verify verify was called
-            verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
-                passwordEncoder, jwtUtil, restTemplate);
-        }
+        givenIdTokenString(authCode, validIdTokenString);
+        when(googleTokenClient.verify(validIdTokenString)).thenThrow(
+            new GeneralSecurityException("Simulated Security Error"));
+
+        // Call the method under test and expect an exception
+        Exception exception = assertThrows(Exception.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
+
+        // Verify the exception message
+        assertTrue(exception.getMessage().contains("Failed to verify Google ID token."));
+        assertTrue(exception.getCause() instanceof GeneralSecurityException);
+
+        // Verify interactions
+        verify(googleTokenClient, times(1)).verify(validIdTokenString);
+        verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
+            passwordEncoder, jwtUtil, restTemplate);
     }
 
     @Test
     @DisplayName("Google Login - ID 토큰 검증 실패 (IOException)")
     void googleLoginWithAuthCode_IdTokenVerificationFailsIO_ThrowsException()
-        throws GeneralSecurityException, IOException {
+        throws Exception {
         String authCode = "authCode";
         String validIdTokenString = "validIdTokenString";
 
-        // Mock GoogleTokenResponse with a valid ID token string
-        GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
-        when(mockTokenResponse.getIdToken()).thenReturn(validIdTokenString);
-
-        // Mock GoogleIdTokenVerifier to throw IOException on verify
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        try {
-            when(mockIdTokenVerifier.verify(validIdTokenString)).thenThrow(
-                new IOException("Simulated IO Error during verification"));
-        } catch (GeneralSecurityException | IOException e) {
-            // This block is just to satisfy the throws clause of verify, won't be executed
-        }
-
-        // Use mockConstruction to mock the creation
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse));
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier); // Return the mock verifier
-                })) {
-
-            // Call the method under test and expect an exception
-            Exception exception = assertThrows(Exception.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertTrue(exception.getMessage().contains("Failed to verify Google ID token."));
-            assertTrue(exception.getCause() instanceof IOException);
-
-            // Verify interactions
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientId(); // Called in constructor and verifier builder
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientSecret(); // Called in request constructor
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleRedirectUri(); // Called in request constructor
-            verify(mockIdTokenVerifier, times(1)).verify(
-                validIdTokenString); // Verify verify was called
-            verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
-                passwordEncoder, jwtUtil, restTemplate);
-        }
+        givenIdTokenString(authCode, validIdTokenString);
+        when(googleTokenClient.verify(validIdTokenString)).thenThrow(
+            new IOException("Simulated IO Error during verification"));
+
+        // Call the method under test and expect an exception
+        Exception exception = assertThrows(Exception.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
+
+        // Verify the exception message
+        assertTrue(exception.getMessage().contains("Failed to verify Google ID token."));
+        assertTrue(exception.getCause() instanceof IOException);
+
+        // Verify interactions
+        verify(googleTokenClient, times(1)).verify(validIdTokenString);
+        verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
+            passwordEncoder, jwtUtil, restTemplate);
     }
 
     @Test
     @DisplayName("Google Login - ID 토큰 검증 후 Null 반환 실패")
     void googleLoginWithAuthCode_IdTokenVerificationReturnsNull_ThrowsException()
-        throws GeneralSecurityException, IOException {
+        throws Exception {
         String authCode = "authCode";
         String validIdTokenString = "validIdTokenString";
 
-        // Mock GoogleTokenResponse with a valid ID token string
+        givenIdTokenString(authCode, validIdTokenString);
+        when(googleTokenClient.verify(validIdTokenString)).thenReturn(
+            null); // Simulate verification failure
+
+        // Call the method under test and expect an exception
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> oAuthService.googleLoginWithAuthCode(authCode));
+
+        // Verify the exception message
+        assertEquals("Invalid or expired Google ID token.", exception.getMessage());
+
+        // Verify interactions
+        verify(googleTokenClient, times(1)).verify(validIdTokenString);
+        verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
+            passwordEncoder, jwtUtil, restTemplate);
+    }
+
+    private void givenIdTokenString(String authCode, String idTokenString) throws IOException {
         GoogleTokenResponse mockTokenResponse = mock(GoogleTokenResponse.class);
-        when(oauthConfig.getGoogleClientId()).thenReturn(TEST_GOOGLE_CLIENT_ID);
-        when(oauthConfig.getGoogleClientSecret()).thenReturn(TEST_GOOGLE_CLIENT_SECRET);
-        when(oauthConfig.getGoogleRedirectUri()).thenReturn(TEST_GOOGLE_REDIRECT_URI);
-
-        when(mockTokenResponse.getIdToken()).thenReturn(validIdTokenString);
-
-        // Mock GoogleIdTokenVerifier to return null on verify
-        GoogleIdTokenVerifier mockIdTokenVerifier = mock(GoogleIdTokenVerifier.class);
-        try {
-            when(mockIdTokenVerifier.verify(validIdTokenString)).thenReturn(
-                null); // Simulate verification failure
-        } catch (GeneralSecurityException | IOException e) {
-            // This block is just to satisfy the throws clause of verify, won't be executed
-        }
-
-        // Use mockConstruction to mock the creation
-        try (MockedConstruction<GoogleAuthorizationCodeTokenRequest> reqMock = Mockito.mockConstruction(
-            GoogleAuthorizationCodeTokenRequest.class,
-            (mock, context) -> when(mock.execute()).thenReturn(mockTokenResponse));
-            MockedConstruction<GoogleIdTokenVerifier.Builder> verifierBuilderMock = Mockito.mockConstruction(
-                GoogleIdTokenVerifier.Builder.class,
-                (mock, context) -> {
-                    when(mock.setAudience(anyList())).thenReturn(mock);
-                    when(mock.build()).thenReturn(mockIdTokenVerifier); // Return the mock verifier
-                })) {
-
-            // Call the method under test and expect an exception
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
-                () -> oAuthService.googleLoginWithAuthCode(authCode));
-
-            // Verify the exception message
-            assertEquals("Invalid or expired Google ID token.", exception.getMessage());
-
-            // Verify interactions
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientId(); // Called in constructor and verifier builder
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleClientSecret(); // Called in request constructor
-            verify(oauthConfig,
-                atLeastOnce()).getGoogleRedirectUri(); // Called in request constructor
-            verify(mockIdTokenVerifier, times(1)).verify(
-                validIdTokenString);
-            verifyNoInteractions(userRepository, userProfileRepository, userSettingRepository,
-                passwordEncoder, jwtUtil, restTemplate);
-        }
+        when(mockTokenResponse.getIdToken()).thenReturn(idTokenString);
+        when(googleTokenClient.exchangeAuthCode(authCode)).thenReturn(mockTokenResponse);
     }
 
-}
\ No newline at end of file
+    private void givenVerifiedIdToken(String authCode, String email, String name, String imageUrl)
+        throws Exception {
+        givenIdTokenString(authCode, "validIdTokenString");
+
+        // Mock GoogleIdToken.Payload
+        GoogleIdToken.Payload mockPayload = mock(GoogleIdToken.Payload.class);
+        when(mockPayload.getEmail()).thenReturn(email);
+        when(mockPayload.get("name")).thenReturn(name);
+        when(mockPayload.get("picture")).thenReturn(imageUrl);
+
+        // Mock GoogleIdToken
+        GoogleIdToken mockIdToken = mock(GoogleIdToken.class);
+        when(mockIdToken.getPayload()).thenReturn(mockPayload);
+
+        when(googleTokenClient.verify("validIdTokenString")).thenReturn(mockIdToken);
+    }
+}
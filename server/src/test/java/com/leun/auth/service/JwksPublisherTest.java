@@ -0,0 +1,69 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leun.auth.util.JwtAlgorithm;
+import com.leun.auth.util.JwtKeyRing;
+import com.leun.auth.util.JwtSigningKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwksPublisherTest {
+
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwtKeyRing keyRing = new JwtKeyRing(SECRET);
+    private final JwksPublisher jwksPublisher = new JwksPublisher(keyRing, objectMapper);
+
+    @Test
+    @DisplayName("document - 공개 키만 JWK로 싣고 HS256 키는 제외")
+    void document_PublishesOnlyAsymmetricKeys() throws Exception {
+        // Given
+        Instant now = Instant.now();
+        keyRing.replace(List.of(
+            JwtAlgorithm.ES256.generate("es", now),
+            JwtAlgorithm.EdDSA.generate("ed", now.minusSeconds(60)),
+            JwtAlgorithm.HS256.generate("hs", now.minusSeconds(120))));
+
+        // When
+        JsonNode keys = objectMapper.readTree(jwksPublisher.document().body()).get("keys");
+
+        // Then
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0).get("kid").asText()).isEqualTo("es");
+        assertThat(keys.get(0).get("kty").asText()).isEqualTo("EC");
+        assertThat(keys.get(0).get("crv").asText()).isEqualTo("P-256");
+        assertThat(Base64.getUrlDecoder().decode(keys.get(0).get("x").asText())).hasSize(32);
+        assertThat(Base64.getUrlDecoder().decode(keys.get(0).get("y").asText())).hasSize(32);
+        assertThat(keys.get(1).get("kid").asText()).isEqualTo("ed");
+        assertThat(keys.get(1).get("kty").asText()).isEqualTo("OKP");
+        assertThat(keys.get(1).get("crv").asText()).isEqualTo("Ed25519");
+        assertThat(Base64.getUrlDecoder().decode(keys.get(1).get("x").asText())).hasSize(32);
+        assertThat(keys.toString()).doesNotContain("\"d\"");
+    }
+
+    @Test
+    @DisplayName("document - 키 구성이 바뀔 때만 다시 만들고 ETag도 그때만 바뀜")
+    void document_RegeneratedOnlyOnRotation() {
+        // Given
+        JwtSigningKey first = JwtAlgorithm.ES256.generate("first", Instant.now());
+        keyRing.replace(List.of(first));
+        JwksPublisher.Document initial = jwksPublisher.document();
+
+        // When
+        keyRing.replace(List.of(first));
+        JwksPublisher.Document unchanged = jwksPublisher.document();
+        keyRing.replace(List.of(first, JwtAlgorithm.ES256.generate("second", Instant.now())));
+        JwksPublisher.Document rotated = jwksPublisher.document();
+
+        // Then
+        assertThat(unchanged).isSameAs(initial);
+        assertThat(rotated.etag()).isNotEqualTo(initial.etag()).startsWith("\"").endsWith("\"");
+    }
+}
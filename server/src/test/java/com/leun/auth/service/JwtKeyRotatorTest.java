@@ -0,0 +1,153 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leun.auth.entity.SigningKey;
+import com.leun.auth.repository.SigningKeyRepository;
+import com.leun.auth.util.JwtAlgorithm;
+import com.leun.auth.util.JwtKeyRing;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JwtKeyRotatorTest {
+
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+    private static final Duration ROTATION_INTERVAL = Duration.ofDays(7);
+    private static final Duration ACTIVATION_DELAY = Duration.ofMinutes(65);
+    private static final long REFRESH_INTERVAL_MILLIS = 60_000L;
+    private static final Duration JWKS_MAX_AGE = Duration.ofHours(1);
+
+    @Mock
+    private SigningKeyRepository signingKeyRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final JwtKeyRing keyRing = new JwtKeyRing(SECRET);
+
+    private JwtKeyRotator rotator;
+
+    @BeforeEach
+    void setUp() {
+        rotator = new JwtKeyRotator(signingKeyRepository, keyRing, jdbcTemplate, SECRET,
+            120_000L, JwtAlgorithm.ES256, ROTATION_INTERVAL, ACTIVATION_DELAY,
+            REFRESH_INTERVAL_MILLIS, JWKS_MAX_AGE);
+    }
+
+    @Test
+    @DisplayName("생성자 - activation-delay가 키 전파 시간(refresh-interval + JWKS max-age)보다 짧으면 실패")
+    void constructor_ActivationDelayShorterThanJwksMaxAge_Fails() {
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> new JwtKeyRotator(signingKeyRepository, keyRing, jdbcTemplate, SECRET,
+                120_000L, JwtAlgorithm.ES256, ROTATION_INTERVAL, Duration.ofMinutes(5),
+                REFRESH_INTERVAL_MILLIS, JWKS_MAX_AGE));
+
+        // Then
+        assertThat(thrown.getMessage()).contains("jwt.jwks.max-age");
+    }
+
+    @Test
+    @DisplayName("rotate - 교체 주기가 지나면 지연 활성화되는 새 키를 저장하고 이전 키를 은퇴")
+    void rotate_Due_CreatesKeyAndRetiresOthers() {
+        // Given
+        Instant now = Instant.now();
+        given(signingKeyRepository.findFirstByOrderByActivatesAtDesc()).willReturn(Optional.of(
+            storedKey(1L, now.minus(ROTATION_INTERVAL).minusSeconds(1))));
+        given(signingKeyRepository.save(any(SigningKey.class))).willAnswer(invocation -> {
+            SigningKey saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 2L);
+            return saved;
+        });
+
+        // When
+        boolean rotated = rotator.rotate(now);
+
+        // Then
+        assertThat(rotated).isTrue();
+        ArgumentCaptor<SigningKey> saved = ArgumentCaptor.forClass(SigningKey.class);
+        verify(signingKeyRepository).save(saved.capture());
+        assertThat(saved.getValue().getAlgorithm()).isEqualTo(JwtAlgorithm.ES256);
+        assertThat(saved.getValue().getActivatesAt()).isEqualTo(now.plus(ACTIVATION_DELAY));
+        assertThat(saved.getValue().getPublicKey()).isNotEmpty();
+        verify(signingKeyRepository).retireOthers(2L, now.plus(ACTIVATION_DELAY),
+            now.plus(ACTIVATION_DELAY).plusMillis(120_000L));
+    }
+
+    @Test
+    @DisplayName("rotate - 최근 키가 교체 주기 안이면 아무것도 하지 않음")
+    void rotate_NotDue_Skips() {
+        // Given
+        Instant now = Instant.now();
+        given(signingKeyRepository.findFirstByOrderByActivatesAtDesc()).willReturn(Optional.of(
+            storedKey(1L, now.minusSeconds(60))));
+
+        // When & Then
+        assertThat(rotator.rotate(now)).isFalse();
+        verify(signingKeyRepository, never()).save(any());
+        verify(signingKeyRepository, never()).retireOthers(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("refresh - 저장된 키를 복호화해 키 링에 반영")
+    void refresh_LoadsStoredKeysIntoRing() {
+        // Given
+        Instant now = Instant.now();
+        given(signingKeyRepository.findFirstByOrderByActivatesAtDesc())
+            .willReturn(Optional.empty());
+        given(signingKeyRepository.save(any(SigningKey.class))).willAnswer(
+            invocation -> invocation.getArgument(0));
+        rotator.rotate(now.minus(ACTIVATION_DELAY));
+        ArgumentCaptor<SigningKey> saved = ArgumentCaptor.forClass(SigningKey.class);
+        verify(signingKeyRepository).save(saved.capture());
+        given(signingKeyRepository.findUsableKeys(any(Instant.class)))
+            .willReturn(List.of(saved.getValue()));
+
+        // When
+        rotator.refresh();
+
+        // Then
+        assertThat(keyRing.signingKey().kid()).isEqualTo(saved.getValue().getKid());
+        assertThat(keyRing.find(JwtKeyRing.LEGACY_KEY_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("encrypt/decrypt - 개인 키는 암호화해 저장하고 같은 비밀로 복호화")
+    void encrypt_RoundTrips() {
+        // Given
+        byte[] plaintext = "private-key-bytes".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] encrypted = rotator.encrypt(plaintext);
+
+        // Then
+        assertThat(encrypted).isNotEqualTo(plaintext);
+        assertThat(rotator.decrypt(encrypted)).isEqualTo(plaintext);
+    }
+
+    private SigningKey storedKey(Long id, Instant activatesAt) {
+        SigningKey key = new SigningKey("kid-" + id, JwtAlgorithm.ES256, new byte[0], new byte[0],
+            activatesAt);
+        ReflectionTestUtils.setField(key, "id", id);
+        return key;
+    }
+}
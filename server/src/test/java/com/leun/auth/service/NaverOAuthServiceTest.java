@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -59,6 +60,9 @@ public class NaverOAuthServiceTest {
     @Mock
     private UserSettingRepository userSettingRepository;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
@@ -68,6 +72,9 @@ public class NaverOAuthServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private GoogleTokenClient googleTokenClient;
+
     @InjectMocks
     private OAuthService oAuthService;
 
@@ -139,7 +146,7 @@ public class NaverOAuthServiceTest {
             invocation -> invocation.getArgument(0));
         when(userProfileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
         when(userSettingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(jwtUtil.generateAccessToken(anyString())).thenReturn("testJwtToken");
+        when(jwtUtil.generateAccessToken(any(User.class))).thenReturn("testJwtToken");
 
         // Call the method under test
         AuthDto.Response response = oAuthService.naverLoginWithAuthCode(authCode);
@@ -181,7 +188,7 @@ public class NaverOAuthServiceTest {
         assertEquals(savedUser, savedSetting.getUser());
 
         verify(passwordEncoder, times(1)).encode(anyString()); // Check if encoding was called
-        verify(jwtUtil, times(1)).generateAccessToken(testEmail);
+        verify(jwtUtil, times(1)).generateAccessToken(argThat(u -> testEmail.equals(u.getEmail())));
     }
 
     @Test
@@ -242,7 +249,7 @@ public class NaverOAuthServiceTest {
 
         // Mock UserRepository to simulate an existing Naver user
         when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(existingUser));
-        when(jwtUtil.generateAccessToken(anyString())).thenReturn("testJwtToken");
+        when(jwtUtil.generateAccessToken(any(User.class))).thenReturn("testJwtToken");
 
 
 
@@ -269,7 +276,7 @@ public class NaverOAuthServiceTest {
             any(UserSetting.class)); // Should not save settings
         verify(passwordEncoder, never()).encode(
             anyString()); // Should not encode password for existing user
-        verify(jwtUtil, times(1)).generateAccessToken(testEmail);
+        verify(jwtUtil, times(1)).generateAccessToken(argThat(u -> testEmail.equals(u.getEmail())));
     }
 
     @Test
@@ -342,7 +349,7 @@ public class NaverOAuthServiceTest {
             any(HttpEntity.class), eq(Map.class));
         verify(userRepository, times(1)).findByEmail(testEmail);
         verify(userRepository, never()).save(any(User.class)); // Should not save
-        verify(jwtUtil, never()).generateAccessToken(anyString()); // Should not generate token
+        verify(jwtUtil, never()).generateAccessToken(any(User.class)); // Should not generate token
     }
 
     @Test
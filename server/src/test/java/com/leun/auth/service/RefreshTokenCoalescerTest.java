@@ -0,0 +1,158 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenCoalescerTest {
+
+    private static final String REFRESH_TOKEN = "old-refresh-token";
+    private static final Map<String, String> TOKENS =
+        Map.of("accessToken", "new-access-token", "refreshToken", "new-refresh-token");
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private RefreshTokenCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new RefreshTokenCoalescer(refreshTokenService, Duration.ofSeconds(5), 100);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 동시에 들어온 같은 토큰 요청은 한 번만 교체하고 같은 결과 공유")
+    void refreshAccessToken_ConcurrentSameToken_RotatesOnce() throws Exception {
+        // Given
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(refreshTokenService.refreshAccessToken(REFRESH_TOKEN)).willAnswer(invocation -> {
+            rotating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return TOKENS;
+        });
+
+        // When
+        Future<Map<String, String>> leader = executor.submit(
+            () -> coalescer.refreshAccessToken(REFRESH_TOKEN));
+        assertThat(rotating.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        Future<Map<String, String>> follower = executor.submit(() -> {
+            followerThread.set(Thread.currentThread());
+            return coalescer.refreshAccessToken(REFRESH_TOKEN);
+        });
+        awaitParked(followerThread);
+        release.countDown();
+
+        // Then
+        assertEquals(TOKENS, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(TOKENS, follower.get(5, TimeUnit.SECONDS));
+        verify(refreshTokenService, times(1)).refreshAccessToken(REFRESH_TOKEN);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 교체 직후 도착한 요청은 보관된 결과 반환")
+    void refreshAccessToken_LateArrival_ReturnsCompletedResult() {
+        // Given
+        given(refreshTokenService.refreshAccessToken(REFRESH_TOKEN)).willReturn(TOKENS);
+
+        // When
+        Map<String, String> first = coalescer.refreshAccessToken(REFRESH_TOKEN);
+        Map<String, String> second = coalescer.refreshAccessToken(REFRESH_TOKEN);
+
+        // Then
+        assertEquals(first, second);
+        verify(refreshTokenService, times(1)).refreshAccessToken(REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 실패한 교체는 보관하지 않아 다음 요청이 다시 시도")
+    void refreshAccessToken_Failure_IsNotCached() {
+        // Given
+        given(refreshTokenService.refreshAccessToken(REFRESH_TOKEN))
+            .willThrow(new IllegalArgumentException("Refresh Token has already been used."))
+            .willReturn(TOKENS);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> coalescer.refreshAccessToken(REFRESH_TOKEN));
+        assertEquals(TOKENS, coalescer.refreshAccessToken(REFRESH_TOKEN));
+        verify(refreshTokenService, times(2)).refreshAccessToken(REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 교체 중 Error가 나도 기다리던 요청에 전달하고 진행 중 목록에서 제거")
+    void refreshAccessToken_Error_ReleasesWaiters() throws Exception {
+        // Given
+        CountDownLatch rotating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(refreshTokenService.refreshAccessToken(REFRESH_TOKEN)).willAnswer(invocation -> {
+            rotating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new StackOverflowError();
+        });
+
+        // When
+        Future<Map<String, String>> leader = executor.submit(
+            () -> coalescer.refreshAccessToken(REFRESH_TOKEN));
+        assertThat(rotating.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        Future<Map<String, String>> follower = executor.submit(() -> {
+            followerThread.set(Thread.currentThread());
+            return coalescer.refreshAccessToken(REFRESH_TOKEN);
+        });
+        awaitParked(followerThread);
+        release.countDown();
+
+        // Then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+            () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class,
+            () -> follower.get(5, TimeUnit.SECONDS));
+        assertThat(leaderFailure.getCause()).isInstanceOf(StackOverflowError.class);
+        assertThat(followerFailure.getCause()).isInstanceOf(StackOverflowError.class);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    // 후속 요청이 진행 중인 교체를 기다리기 시작할 때까지(스레드가 park될 때까지) 대기한다.
+    private void awaitParked(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Thread t = thread.get();
+            if (t != null && t.getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+        throw new AssertionError("follower did not wait for the in-flight refresh");
+    }
+}
@@ -0,0 +1,246 @@
+package com.leun.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leun.auth.entity.RefreshToken;
+import com.leun.auth.repository.RefreshTokenRepository;
+import com.leun.auth.util.JwtClaims;
+import com.leun.auth.util.JwtUtil;
+import com.leun.auth.util.TokenDigest;
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.ProviderType;
+import com.leun.user.entity.User.UserRole;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final String REFRESH_TOKEN = "old-refresh-token";
+    private static final String TOKEN_HASH = TokenDigest.sha256Hex(REFRESH_TOKEN);
+    private static final String NEW_TOKEN_HASH = TokenDigest.sha256Hex("new-refresh-token");
+    private static final Duration GRACE_PERIOD = Duration.ofSeconds(10);
+    private static final int MAX_SESSIONS = 3;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtUtil,
+            tokenVersionRegistry, GRACE_PERIOD, MAX_SESSIONS);
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 조건부 UPDATE가 성공하면 새 토큰 쌍 반환")
+    void refreshAccessToken_Success_RotatesWithCompareAndSwap() {
+        // Given
+        User user = givenStoredToken(EMAIL);
+        givenNewTokens(user);
+        given(refreshTokenRepository.rotate(eq(1L), eq(TOKEN_HASH), eq(NEW_TOKEN_HASH),
+            any(Instant.class), any(Instant.class))).willReturn(1);
+
+        // When
+        Map<String, String> tokens = refreshTokenService.refreshAccessToken(REFRESH_TOKEN);
+
+        // Then
+        assertEquals("new-access-token", tokens.get("accessToken"));
+        assertEquals("new-refresh-token", tokens.get("refreshToken"));
+        verify(refreshTokenRepository, never()).rotateFromPrevious(any(), anyString(),
+            anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 이미 교체된 직전 토큰은 유예 시간 기준으로 다시 교체")
+    void refreshAccessToken_PreviousToken_RotatesWithinGracePeriod() {
+        // Given
+        User user = givenStoredToken(EMAIL);
+        givenNewTokens(user);
+        given(refreshTokenRepository.rotate(eq(1L), eq(TOKEN_HASH), eq(NEW_TOKEN_HASH),
+            any(Instant.class), any(Instant.class))).willReturn(0);
+        given(refreshTokenRepository.rotateFromPrevious(eq(1L), eq(TOKEN_HASH),
+            eq(NEW_TOKEN_HASH), any(Instant.class), any(Instant.class), any(Instant.class)))
+            .willReturn(1);
+
+        // When
+        Map<String, String> tokens = refreshTokenService.refreshAccessToken(REFRESH_TOKEN);
+
+        // Then
+        assertEquals("new-refresh-token", tokens.get("refreshToken"));
+
+        ArgumentCaptor<Instant> rotatedAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> graceStart = ArgumentCaptor.forClass(Instant.class);
+        verify(refreshTokenRepository).rotate(eq(1L), eq(TOKEN_HASH), eq(NEW_TOKEN_HASH),
+            rotatedAt.capture(), any(Instant.class));
+        verify(refreshTokenRepository).rotateFromPrevious(eq(1L), eq(TOKEN_HASH),
+            eq(NEW_TOKEN_HASH), eq(rotatedAt.getValue()), any(Instant.class),
+            graceStart.capture());
+        assertEquals(rotatedAt.getValue().minus(GRACE_PERIOD), graceStart.getValue());
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 두 조건부 UPDATE 모두 실패하면 재사용으로 보고 예외 발생")
+    void refreshAccessToken_ReusedToken_ThrowsException() {
+        // Given
+        User user = givenStoredToken(EMAIL);
+        givenNewTokens(user);
+        given(refreshTokenRepository.rotate(any(), anyString(), anyString(), any(), any()))
+            .willReturn(0);
+        given(refreshTokenRepository.rotateFromPrevious(any(), anyString(), anyString(), any(),
+            any(), any())).willReturn(0);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> refreshTokenService.refreshAccessToken(REFRESH_TOKEN));
+        assertEquals("Refresh Token has already been used.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 저장되지 않은 토큰이면 예외 발생")
+    void refreshAccessToken_UnknownToken_ThrowsException() {
+        // Given
+        given(jwtUtil.parseToken(REFRESH_TOKEN)).willReturn(Optional.of(claims(EMAIL)));
+        given(refreshTokenRepository.findWithUserByAcceptedTokenHash(anyString()))
+            .willReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> refreshTokenService.refreshAccessToken(REFRESH_TOKEN));
+        verify(jwtUtil, never()).generateRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 토큰 소유자와 subject가 다르면 예외 발생")
+    void refreshAccessToken_SubjectMismatch_ThrowsException() {
+        // Given
+        givenStoredToken("other@example.com");
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> refreshTokenService.refreshAccessToken(REFRESH_TOKEN));
+        assertEquals("Refresh Token mismatch.", exception.getMessage());
+        verify(refreshTokenRepository, never()).rotate(any(), anyString(), anyString(), any(),
+            any());
+    }
+
+    @Test
+    @DisplayName("refreshAccessToken - 서명/만료 검증에 실패하면 DB를 조회하지 않음")
+    void refreshAccessToken_InvalidToken_SkipsLookup() {
+        // Given
+        given(jwtUtil.parseToken(REFRESH_TOKEN)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> refreshTokenService.refreshAccessToken(REFRESH_TOKEN));
+        verify(refreshTokenRepository, never())
+            .findWithUserByAcceptedTokenHash(anyString());
+    }
+
+    @Test
+    @DisplayName("createSession - 새 세션을 추가하고 상한을 넘는 오래된 세션 제거")
+    void createSession_InsertsAndEvictsLeastRecentlyUsed() {
+        // Given
+        given(jwtUtil.getRefreshTokenExpirationTime()).willReturn(60_000L);
+
+        // When
+        refreshTokenService.createSession(1L, REFRESH_TOKEN);
+
+        // Then
+        ArgumentCaptor<Instant> createdAt = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> expiresAt = ArgumentCaptor.forClass(Instant.class);
+        InOrder inOrder = inOrder(refreshTokenRepository);
+        inOrder.verify(refreshTokenRepository).insertToken(eq(1L), eq(TOKEN_HASH),
+            createdAt.capture(), expiresAt.capture());
+        inOrder.verify(refreshTokenRepository).evictLeastRecentlyUsed(1L, MAX_SESSIONS);
+        assertEquals(createdAt.getValue().plusMillis(60_000L), expiresAt.getValue());
+    }
+
+    @Test
+    @DisplayName("revokeSession - 본인 세션이 아니거나 없으면 NoSuchElementException 발생")
+    void revokeSession_NotOwned_ThrowsException() {
+        // Given
+        given(refreshTokenRepository.deleteSession(7L, EMAIL)).willReturn(0);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class,
+            () -> refreshTokenService.revokeSession(EMAIL, 7L));
+    }
+
+    @Test
+    @DisplayName("revokeAllSessions - 토큰 버전을 올린 뒤 모든 세션 삭제")
+    void revokeAllSessions_BumpsTokenVersionAndDeletesSessions() {
+        // Given
+        given(refreshTokenRepository.deleteAllSessions(EMAIL)).willReturn(2);
+
+        // When
+        int revoked = refreshTokenService.revokeAllSessions(EMAIL);
+
+        // Then
+        assertEquals(2, revoked);
+        InOrder order = inOrder(tokenVersionRegistry, refreshTokenRepository);
+        order.verify(tokenVersionRegistry).bump(EMAIL);
+        order.verify(refreshTokenRepository).deleteAllSessions(EMAIL);
+    }
+
+    @Test
+    @DisplayName("logout - 다이제스트로 토큰 삭제")
+    void logout_DeletesByTokenHash() {
+        // Given
+        given(jwtUtil.parseToken(REFRESH_TOKEN)).willReturn(Optional.of(claims(EMAIL)));
+
+        // When
+        refreshTokenService.logout(REFRESH_TOKEN);
+
+        // Then
+        verify(refreshTokenRepository).deleteByTokenHash(TOKEN_HASH);
+    }
+
+    private User givenStoredToken(String ownerEmail) {
+        User user = new User(ownerEmail, "encodedPassword", ProviderType.LOCAL,
+            UserRole.ROLE_USER);
+        user.setId(1L);
+
+        given(jwtUtil.parseToken(REFRESH_TOKEN)).willReturn(Optional.of(claims(EMAIL)));
+        given(refreshTokenRepository.findWithUserByAcceptedTokenHash(TOKEN_HASH))
+            .willReturn(Optional.of(new RefreshToken(user, TOKEN_HASH)));
+        return user;
+    }
+
+    private void givenNewTokens(User user) {
+        given(jwtUtil.generateAccessToken(user)).willReturn("new-access-token");
+        given(jwtUtil.generateRefreshToken(EMAIL)).willReturn("new-refresh-token");
+    }
+
+    private JwtClaims claims(String email) {
+        return new JwtClaims(email, null, null, null, null, Instant.now(),
+            Instant.now().plusSeconds(60));
+    }
+}
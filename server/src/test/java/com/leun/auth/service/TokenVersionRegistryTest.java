@@ -0,0 +1,140 @@
+package com.leun.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.leun.auth.util.JwtUtil;
+import com.leun.user.dto.UserDto;
+import com.leun.user.repository.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TokenVersionRegistryTest {
+
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository,
+            new JwtUtil(SECRET, 60_000L, 120_000L), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("isStale - 버전을 올린 적 없는 사용자의 토큰은 유효")
+    void isStale_NeverBumped_ReturnsFalse() {
+        assertThat(tokenVersionRegistry.isStale(1L, 0L)).isFalse();
+        assertThat(tokenVersionRegistry.isStale(1L, null)).isFalse();
+        assertThat(tokenVersionRegistry.isStale(null, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("bump - 버전을 올리면 이전 버전의 토큰만 무효")
+    void bump_InvalidatesOlderVersions() {
+        // Given
+        given(userRepository.incrementTokenVersion(eq(1L), any(Instant.class))).willReturn(1);
+        given(userRepository.findTokenVersionById(1L)).willReturn(Optional.of(1L));
+
+        // When
+        long version = tokenVersionRegistry.bump(1L);
+
+        // Then
+        assertThat(version).isEqualTo(1L);
+        assertThat(tokenVersionRegistry.isStale(1L, 0L)).isTrue();
+        assertThat(tokenVersionRegistry.isStale(1L, null)).isTrue();
+        assertThat(tokenVersionRegistry.isStale(1L, 1L)).isFalse();
+        assertThat(tokenVersionRegistry.isStale(2L, 0L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("bump - 트랜잭션 안에서는 커밋된 뒤에만 맵에 반영")
+    void bump_InTransaction_AppliesAfterCommit() {
+        // Given
+        given(userRepository.incrementTokenVersion(eq(1L), any(Instant.class))).willReturn(1);
+        given(userRepository.findTokenVersionById(1L)).willReturn(Optional.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            tokenVersionRegistry.bump(1L);
+
+            // Then
+            assertThat(tokenVersionRegistry.isStale(1L, 0L)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+            assertThat(tokenVersionRegistry.isStale(1L, 0L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("bump - 트랜잭션이 롤백되면 맵에 반영하지 않음")
+    void bump_RolledBack_IsNotApplied() {
+        // Given
+        given(userRepository.incrementTokenVersion(eq(1L), any(Instant.class))).willReturn(1);
+        given(userRepository.findTokenVersionById(1L)).willReturn(Optional.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            tokenVersionRegistry.bump(1L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(tokenVersionRegistry.isStale(1L, 0L)).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("bump - 없는 사용자면 NoSuchElementException 발생")
+    void bump_UnknownUser_ThrowsException() {
+        // Given
+        given(userRepository.incrementTokenVersion(eq(1L), any(Instant.class))).willReturn(0);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class, () -> tokenVersionRegistry.bump(1L));
+        verify(userRepository, never()).findTokenVersionById(any());
+    }
+
+    @Test
+    @DisplayName("poll - 다른 노드에서 올린 버전을 반영하고 Access Token 수명이 지난 항목은 제거")
+    void poll_AppliesRecentBumpsAndEvictsOldOnes() {
+        // Given
+        Instant now = Instant.now();
+        given(userRepository.findTokenVersionsUpdatedSince(any(Instant.class))).willReturn(List.of(
+            new UserDto.TokenVersion(1L, 2L, now.minusSeconds(1)),
+            new UserDto.TokenVersion(2L, 1L, now.minusSeconds(3600))));
+
+        // When
+        tokenVersionRegistry.poll();
+
+        // Then
+        assertThat(tokenVersionRegistry.isStale(1L, 1L)).isTrue();
+        assertThat(tokenVersionRegistry.isStale(1L, 2L)).isFalse();
+        assertThat(tokenVersionRegistry.isStale(2L, 0L)).isFalse();
+        assertThat(tokenVersionRegistry.size()).isEqualTo(1);
+    }
+}
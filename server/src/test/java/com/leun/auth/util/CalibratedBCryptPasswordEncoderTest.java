@@ -0,0 +1,45 @@
+package com.leun.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("calibrate - 허용 범위 안에서 strength를 선택")
+    void calibrate_StaysWithinBounds() {
+        // When
+        CalibratedBCryptPasswordEncoder encoder =
+            CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(1), 4, 6, 1);
+
+        // Then
+        assertThat(encoder.getStrength()).isBetween(4, 6);
+        assertThat(encoder.matches("password", encoder.encode("password"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding - cost가 낮거나 허용 범위를 넘게 높으면 재해시 대상")
+    void upgradeEncoding_DifferentCost_RequiresRehash() {
+        // Given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6, 1);
+
+        // When & Then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(8).encode("pw"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding - BCrypt 형식이 아니면 재해시하지 않음")
+    void upgradeEncoding_NotBCrypt_ReturnsFalse() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6, 1);
+
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    }
+}
@@ -0,0 +1,192 @@
+package com.leun.auth.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leun.user.entity.User;
+import com.leun.user.entity.User.ProviderType;
+import com.leun.user.entity.User.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "thisistestingsecretkeyforjwtauthenticationanditissolongenough";
+    private static final String OTHER_SECRET = "anothertestingsecretkeyforjwtauthenticationthatisalsolongenough";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 120_000L);
+
+    @Test
+    @DisplayName("parseToken - 유효한 토큰이면 이메일과 만료 시간을 담은 클레임 반환")
+    void parseToken_ValidToken_ReturnsClaims() {
+        // Given
+        String token = jwtUtil.generateAccessToken(testUser());
+
+        // When
+        Optional<JwtClaims> claims = jwtUtil.parseToken(token);
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().email()).isEqualTo("test@example.com");
+        assertThat(claims.get().expiresAt()).isAfter(claims.get().issuedAt());
+    }
+
+    @Test
+    @DisplayName("generateAccessToken - 사용자 ID, 권한, 토큰 버전을 클레임으로 포함")
+    void generateAccessToken_EmbedsUserIdAndRole() {
+        // When
+        JwtClaims claims = jwtUtil.parseToken(jwtUtil.generateAccessToken(testUser())).orElseThrow();
+
+        // Then
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.role()).isEqualTo("ROLE_USER");
+        assertThat(claims.hasIdentityClaims()).isTrue();
+        assertThat(claims.tokenVersion()).isEqualTo(3L);
+        assertThat(claims.jti()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("generateRefreshToken - 권한 클레임을 포함하지 않음")
+    void generateRefreshToken_HasNoIdentityClaims() {
+        // When
+        JwtClaims claims = jwtUtil.parseToken(jwtUtil.generateRefreshToken("test@example.com"))
+            .orElseThrow();
+
+        // Then
+        assertThat(claims.email()).isEqualTo("test@example.com");
+        assertThat(claims.hasIdentityClaims()).isFalse();
+    }
+
+    @Test
+    @DisplayName("generateRefreshToken - 같은 사용자에게 연속 발급해도 토큰이 겹치지 않음")
+    void generateRefreshToken_SameUser_IsUnique() {
+        // When
+        String first = jwtUtil.generateRefreshToken("test@example.com");
+        String second = jwtUtil.generateRefreshToken("test@example.com");
+
+        // Then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(TokenDigest.sha256Hex(first)).hasSize(64)
+            .isNotEqualTo(TokenDigest.sha256Hex(second));
+    }
+
+    @Test
+    @DisplayName("parseToken - 다른 키로 서명된 토큰이면 빈 값 반환")
+    void parseToken_ForeignSignature_ReturnsEmpty() {
+        // Given
+        String token = new JwtUtil(OTHER_SECRET, 60_000L, 120_000L)
+            .generateAccessToken(testUser());
+
+        // When & Then
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseToken - 만료된 토큰이면 빈 값 반환")
+    void parseToken_ExpiredToken_ReturnsEmpty() {
+        // Given
+        String token = new JwtUtil(SECRET, -1_000L, -1_000L)
+            .generateAccessToken(testUser());
+
+        // When & Then
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseToken - 형식이 잘못된 토큰이면 빈 값 반환")
+    void parseToken_MalformedToken_ReturnsEmpty() {
+        assertThat(jwtUtil.parseToken("not-a-jwt")).isEmpty();
+        assertThat(jwtUtil.parseToken("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseToken - kid 없이 jwt.secret으로 서명된 기존 토큰도 검증")
+    void parseToken_LegacyTokenWithoutKid_ReturnsClaims() {
+        // Given
+        String token = Jwts.builder()
+            .subject("test@example.com")
+            .expiration(new Date(System.currentTimeMillis() + 60_000L))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), Jwts.SIG.HS256)
+            .compact();
+
+        // When & Then
+        assertThat(jwtUtil.parseToken(token)).map(JwtClaims::email).hasValue("test@example.com");
+    }
+
+    @Test
+    @DisplayName("키 링 - 활성화된 ES256/EdDSA 키로 서명하고 kid로 검증 키를 찾음")
+    void keyRing_SignsWithActiveAsymmetricKey() {
+        for (JwtAlgorithm algorithm : List.of(JwtAlgorithm.ES256, JwtAlgorithm.EdDSA)) {
+            // Given
+            JwtKeyRing keyRing = new JwtKeyRing(SECRET);
+            JwtSigningKey key = algorithm.generate("kid-" + algorithm,
+                Instant.now().minusSeconds(1));
+            keyRing.replace(List.of(key));
+            JwtUtil rotating = new JwtUtil(keyRing, 60_000L, 120_000L);
+
+            // When
+            String token = rotating.generateAccessToken(testUser());
+
+            // Then
+            assertThat(header(token)).contains("\"kid\":\"kid-" + algorithm + "\"")
+                .contains("\"alg\":\"" + algorithm + "\"");
+            assertThat(rotating.parseToken(token)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("키 링 - 활성화 전인 키로는 서명하지 않고, 교체 후에도 이전 토큰 검증")
+    void keyRing_RotationKeepsOldTokensValid() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET);
+        JwtUtil rotating = new JwtUtil(keyRing, 60_000L, 120_000L);
+        JwtSigningKey first = JwtAlgorithm.ES256.generate("first",
+            Instant.now().minusSeconds(60));
+        JwtSigningKey pending = JwtAlgorithm.ES256.generate("second",
+            Instant.now().plusSeconds(60));
+        keyRing.replace(List.of(first, pending));
+
+        // When
+        String token = rotating.generateAccessToken(testUser());
+
+        // Then
+        assertThat(header(token)).contains("\"kid\":\"first\"");
+        keyRing.replace(List.of(first,
+            JwtAlgorithm.ES256.generate("third", Instant.now().minusSeconds(1))));
+        assertThat(header(rotating.generateAccessToken(testUser())))
+            .contains("\"kid\":\"third\"");
+        assertThat(rotating.parseToken(token)).isPresent();
+    }
+
+    @Test
+    @DisplayName("parseToken - 키 링에 없는 kid면 빈 값 반환")
+    void parseToken_UnknownKid_ReturnsEmpty() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET);
+        keyRing.replace(List.of(JwtAlgorithm.EdDSA.generate("gone", Instant.EPOCH)));
+        String token = new JwtUtil(keyRing, 60_000L, 120_000L).generateAccessToken(testUser());
+
+        // When & Then
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+
+    private String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+            StandardCharsets.UTF_8);
+    }
+
+    private User testUser() {
+        User user = new User("test@example.com", "encodedPassword", ProviderType.LOCAL,
+            UserRole.ROLE_USER);
+        user.setId(42L);
+        user.setTokenVersion(3L);
+        return user;
+    }
+}
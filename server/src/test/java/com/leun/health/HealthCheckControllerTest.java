@@ -4,7 +4,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.leun.auth.config.SecurityConfiguration;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.TokenVersionRegistry;
 import com.leun.auth.util.JwtUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,12 @@ public class HealthCheckControllerTest {
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @Test
     @DisplayName("GET /health 엔트포인트 테스트")
     void testGetHealth() throws Exception {
@@ -1,5 +1,6 @@
 package com.leun.user.controller;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
@@ -7,16 +8,21 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leun.auth.config.SecurityConfiguration;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.RefreshTokenService;
+import com.leun.auth.service.TokenVersionRegistry;
 import com.leun.auth.util.JwtUtil;
 import com.leun.user.dto.UserProfileDto;
 import com.leun.user.service.UserService;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,9 +48,18 @@ public class AdminControllerTest {
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @MockitoBean
     private UserService userService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     private final String TEST_USER_EMAIL = "user@example.com";
     private final String TEST_ADMIN_EMAIL = "admin@example.com";
 
@@ -118,4 +133,45 @@ public class AdminControllerTest {
 
         verify(userService, never()).getUserProfileByEmail(anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("DELETE /v1/admin/users/{userId}/sessions - 관리자가 사용자의 모든 토큰 무효화")
+    void revokeUserSessions_Success_WithAdminRole() throws Exception {
+        // Given
+        given(refreshTokenService.revokeAllSessions(7L)).willReturn(2);
+
+        // When & Then
+        mockMvc.perform(delete("/v1/admin/users/7/sessions")
+                .with(user(TEST_ADMIN_EMAIL).roles("ADMIN")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.revoked").value(2));
+
+        verify(refreshTokenService, times(1)).revokeAllSessions(7L);
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/admin/users/{userId}/sessions - 없는 사용자면 404 Not Found")
+    void revokeUserSessions_Failure_UnknownUser() throws Exception {
+        // Given
+        given(refreshTokenService.revokeAllSessions(7L))
+            .willThrow(new NoSuchElementException("User Does Not Exist"));
+
+        // When & Then
+        mockMvc.perform(delete("/v1/admin/users/7/sessions")
+                .with(user(TEST_ADMIN_EMAIL).roles("ADMIN")))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("User Does Not Exist"));
+    }
+
+    @Test
+    @DisplayName("DELETE /v1/admin/users/{userId}/sessions - ROLE_USER로 접근 시 403 Forbidden")
+    void revokeUserSessions_Failure_WithUserRole() throws Exception {
+
+        // When & Then
+        mockMvc.perform(delete("/v1/admin/users/7/sessions")
+                .with(user(TEST_USER_EMAIL).roles("USER")))
+            .andExpect(status().isForbidden());
+
+        verify(refreshTokenService, never()).revokeAllSessions(anyLong());
+    }
+}
@@ -3,6 +3,8 @@ package com.leun.user.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -15,12 +17,16 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leun.auth.config.SecurityConfiguration;
+import com.leun.auth.service.AccessTokenRevocationList;
 import com.leun.auth.service.CustomUserDetailsService;
+import com.leun.auth.service.TokenVersionRegistry;
 import com.leun.auth.util.JwtUtil;
 import com.leun.user.dto.UserDto;
 import com.leun.user.dto.UserDto.Request;
@@ -31,6 +37,7 @@ import com.leun.user.dto.UserSettingDto.Request.Language;
 import com.leun.user.dto.UserSettingDto.Request.Timezone;
 import com.leun.user.dto.UserSettingDto.Response;
 import com.leun.user.service.UserService;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +46,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -61,6 +70,12 @@ public class UserControllerTest {
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @MockitoBean
+    private TokenVersionRegistry tokenVersionRegistry;
+
     @MockitoBean
     private UserService userService;
 
@@ -110,6 +125,39 @@ public class UserControllerTest {
         verify(userService, times(1)).getUserProfileByEmail(AUTHENTICATED_USER_EMAIL);
     }
 
+    @Test
+    @DisplayName("GET /v1/user/profile - 행 ID와 버전으로 만든 ETag를 내보내고 버전은 본문에 넣지 않음")
+    void getUserProfile_ReturnsETag() throws Exception {
+        // Given
+        given(userService.getUserProfileByEmail(AUTHENTICATED_USER_EMAIL))
+            .willReturn(new UserProfileDto.Response(7L, "Authenticated User", "/image.jpg", 3L));
+
+        // When & Then
+        mockMvc.perform(get("/v1/user/profile")
+                .with(user(AUTHENTICATED_USER_EMAIL)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"7-3\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(jsonPath("$.version").doesNotExist())
+            .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /v1/user/setting - If-None-Match가 현재 ETag와 같으면 본문 없이 304 반환")
+    void getUserSetting_MatchingETag_Returns304() throws Exception {
+        // Given
+        given(userService.getUserSettingByEmail(AUTHENTICATED_USER_EMAIL))
+            .willReturn(new Response("English", "USA", "PST", 4L, 9L));
+
+        // When & Then
+        mockMvc.perform(get("/v1/user/setting")
+                .with(user(AUTHENTICATED_USER_EMAIL))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"4-9\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4-9\""))
+            .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("GET /v1/user/profile - 미인증 사용자 접근 시 401 Unauthorized")
     void getUserProfile_Failure_Unauthenticated() throws Exception {
@@ -138,6 +186,25 @@ public class UserControllerTest {
          verify(userService, times(1)).getUserSettingByEmail(AUTHENTICATED_USER_EMAIL);
      }
 
+    @Test
+    @DisplayName("PATCH /v1/user/profile/name - 수정할 프로필이 없으면 404 반환")
+    void updateUserProfileName_NotFound_Returns404() throws Exception {
+        // Given
+        given(userService.updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name", null))
+            .willThrow(new NoSuchElementException("User profile not found for email: "
+                + AUTHENTICATED_USER_EMAIL));
+
+        // When & Then
+        mockMvc.perform(patch("/v1/user/profile/name")
+                .with(user(AUTHENTICATED_USER_EMAIL))
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserProfileDto.Request.Name("New Name"))))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message")
+                .value("User profile not found for email: " + AUTHENTICATED_USER_EMAIL));
+    }
+
     @Test
     @DisplayName("PATCH /v1/user/profile/name - 인증된 사용자 프로필 이름 업데이트 성공")
     void updateUserProfileName_Success_Authenticated() throws Exception {
@@ -145,7 +212,7 @@ public class UserControllerTest {
         UserProfileDto.Request.Name updateRequest = new UserProfileDto.Request.Name("New Name");
         UserProfileDto.Response updatedProfileResponse = new UserProfileDto.Response("New Name", "/image.jpg");
 
-        given(userService.updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name")).willReturn(updatedProfileResponse);
+        given(userService.updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name", null)).willReturn(updatedProfileResponse);
 
         // When & Then
         mockMvc.perform(patch("/v1/user/profile/name")
@@ -155,7 +222,44 @@ public class UserControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.name").value("New Name"));
 
-        verify(userService, times(1)).updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name");
+        verify(userService, times(1)).updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name", null);
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/user/profile/name - If-Match 태그를 넘기고 새 ETag를 반환")
+    void updateUserProfileName_IfMatch_PassesTag() throws Exception {
+        // Given
+        given(userService.updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name", "\"7-3\""))
+            .willReturn(new UserProfileDto.Response(AUTHENTICATED_USER_EMAIL, "New Name",
+                "/image.jpg", 7L, 4L));
+
+        // When & Then
+        mockMvc.perform(patch("/v1/user/profile/name")
+                .with(user(AUTHENTICATED_USER_EMAIL))
+                .header(HttpHeaders.IF_MATCH, "\"7-3\"")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserProfileDto.Request.Name("New Name"))))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"7-4\""));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/user/profile/name - If-Match가 현재 ETag와 다르면 409 Conflict")
+    void updateUserProfileName_TagMismatch_Returns409() throws Exception {
+        // Given
+        given(userService.updateUserProfileName(AUTHENTICATED_USER_EMAIL, "New Name", "\"8-3\""))
+            .willThrow(new OptimisticLockingFailureException("If-Match \"8-3\" does not match"));
+
+        // When & Then
+        mockMvc.perform(patch("/v1/user/profile/name")
+                .with(user(AUTHENTICATED_USER_EMAIL))
+                .header(HttpHeaders.IF_MATCH, "\"8-3\"")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new UserProfileDto.Request.Name("New Name"))))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Resource was modified concurrently"));
     }
 
     @Test
@@ -222,6 +326,36 @@ public class UserControllerTest {
         verify(userService, never()).updateUserProfileImage(anyString());
     }
 
+    @Test
+    @DisplayName("PATCH /v1/user/setting - 여러 설정을 한 번에 업데이트 성공")
+    void updateUserSetting_Success_Authenticated() throws Exception {
+        // Given
+        UserSettingDto.Request.Patch request =
+            new UserSettingDto.Request.Patch("English", "USA", null);
+        UserSettingDto.Response response = new Response("English", "USA", "KST +09:00");
+        ArgumentCaptor<UserSettingDto.Request.Patch> captor =
+            ArgumentCaptor.forClass(UserSettingDto.Request.Patch.class);
+
+        given(userService.updateUserSetting(anyString(), any(UserSettingDto.Request.Patch.class),
+            isNull()))
+            .willReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/v1/user/setting")
+                .with(user(AUTHENTICATED_USER_EMAIL))
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.language").value("English"))
+            .andExpect(jsonPath("$.country").value("USA"))
+            .andExpect(jsonPath("$.timezone").value("KST +09:00"));
+
+        verify(userService, times(1)).updateUserSetting(
+            eq(AUTHENTICATED_USER_EMAIL), captor.capture(), isNull());
+        assertThat(captor.getValue().getLanguage()).isEqualTo("English");
+        assertThat(captor.getValue().getTimezone()).isNull();
+    }
+
     @Test
     @DisplayName("PATCH /v1/user/setting/language - 인증된 사용자 언어 설정 업데이트 성공")
     void updateUserSettingLanguage_Success_Authenticated() throws Exception {
@@ -0,0 +1,124 @@
+package com.leun.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.leun.user.dto.UserDto;
+import com.leun.user.dto.UserProfileDto;
+import com.leun.user.dto.UserSettingDto;
+import com.leun.user.repository.UserProfileRepository;
+import com.leun.user.repository.UserSettingRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserProjectionPollerTest {
+
+    private static final String EMAIL = "test@example.com";
+    private static final Duration CLOCK_SKEW_TOLERANCE = Duration.ofSeconds(5);
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private UserSettingRepository userSettingRepository;
+
+    private final UserProjectionCache userProjectionCache =
+        new UserProjectionCache(100, Duration.ofMinutes(10));
+    private final AtomicInteger profileLoads = new AtomicInteger();
+    private final AtomicInteger settingLoads = new AtomicInteger();
+
+    private UserProjectionPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new UserProjectionPoller(userProfileRepository, userSettingRepository,
+            userProjectionCache, Duration.ofMinutes(10), CLOCK_SKEW_TOLERANCE);
+        loadProfile(2L);
+        loadSetting(4L);
+    }
+
+    @Test
+    @DisplayName("poll - 다른 노드가 올린 버전이 캐시보다 높으면 캐시를 비워 다음 조회가 DB를 읽음")
+    void poll_ChangedOnOtherNode_EvictsStaleEntries() {
+        // Given
+        Instant updatedAt = Instant.now();
+        given(userProfileRepository.findProfileChangesSince(any(Instant.class))).willReturn(
+            List.of(new UserDto.ProjectionChange(EMAIL, 3L, updatedAt)));
+        given(userSettingRepository.findSettingChangesSince(any(Instant.class))).willReturn(
+            List.of(new UserDto.ProjectionChange(EMAIL, 5L, updatedAt)));
+
+        // When
+        poller.poll();
+
+        // Then
+        assertThat(loadProfile(3L).getVersion()).isEqualTo(3L);
+        assertThat(loadSetting(5L).getVersion()).isEqualTo(5L);
+        assertThat(profileLoads.get()).isEqualTo(2);
+        assertThat(settingLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("poll - 캐시된 버전이 이미 같으면(이 노드가 쓴 값) 비우지 않음")
+    void poll_AlreadyCurrent_KeepsEntries() {
+        // Given
+        Instant updatedAt = Instant.now();
+        given(userProfileRepository.findProfileChangesSince(any(Instant.class))).willReturn(
+            List.of(new UserDto.ProjectionChange(EMAIL, 2L, updatedAt)));
+        given(userSettingRepository.findSettingChangesSince(any(Instant.class))).willReturn(
+            List.of(new UserDto.ProjectionChange(EMAIL, 4L, updatedAt)));
+
+        // When
+        poller.poll();
+
+        // Then
+        loadProfile(2L);
+        loadSetting(4L);
+        assertThat(profileLoads.get()).isEqualTo(1);
+        assertThat(settingLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("poll - 다음 폴링은 마지막으로 본 수정 시각에서 시계 오차만큼 앞부터 읽음")
+    void poll_ResumesFromLastSeenMinusTolerance() {
+        // Given
+        Instant updatedAt = Instant.now().minusSeconds(30);
+        given(userProfileRepository.findProfileChangesSince(any(Instant.class))).willReturn(
+            List.of(new UserDto.ProjectionChange(EMAIL, 3L, updatedAt)));
+        given(userSettingRepository.findSettingChangesSince(any(Instant.class))).willReturn(
+            List.of());
+        poller.poll();
+
+        // When
+        poller.poll();
+
+        // Then
+        verify(userProfileRepository).findProfileChangesSince(
+            updatedAt.minus(CLOCK_SKEW_TOLERANCE));
+    }
+
+    private UserProfileDto.Response loadProfile(long version) {
+        return userProjectionCache.profile(EMAIL, () -> {
+            profileLoads.incrementAndGet();
+            return new UserProfileDto.Response(EMAIL, "Name", "/profile.jpg", 7L, version);
+        });
+    }
+
+    private UserSettingDto.Response loadSetting(long version) {
+        return userProjectionCache.setting(EMAIL, () -> {
+            settingLoads.incrementAndGet();
+            return new UserSettingDto.Response("Korean", "South Korea", "KST +09:00", 9L,
+                version);
+        });
+    }
+}
@@ -8,6 +8,7 @@ import com.leun.user.entity.User.ProviderType;
 import com.leun.user.entity.User.UserRole;
 import com.leun.user.entity.UserProfile;
 import com.leun.user.entity.UserSetting;
+import com.leun.user.event.UserChangedEvent;
 import com.leun.user.repository.UserProfileRepository;
 import com.leun.user.repository.UserRepository;
 import com.leun.user.repository.UserSettingRepository;
@@ -16,17 +17,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -43,6 +51,11 @@ class UserServiceTest {
     private UserSettingRepository userSettingRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private UserProjectionCache userProjectionCache =
+        new UserProjectionCache(100, Duration.ofMinutes(10));
 
     @InjectMocks
     private UserService userService;
@@ -138,6 +151,25 @@ class UserServiceTest {
         verify(userProfileRepository, times(1)).findUserProfileByEmail(email);
     }
 
+    @Test
+    @DisplayName("프로필 조회 - 두 번째 조회는 캐시에서 반환하고, 반환값을 고쳐도 캐시는 영향 없음")
+    void getUserProfileByEmail_SecondCall_HitsCache() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(new UserProfileDto.Response("TestUser", "/profile.jpg"));
+
+        // When
+        userService.getUserProfileByEmail(email).setName("Mutated");
+        UserProfileDto.Response result = userService.getUserProfileByEmail(email);
+
+        // Then
+        assertThat(result.getEmail()).isEqualTo(email);
+        assertThat(result.getName()).isEqualTo("TestUser");
+        verify(userProfileRepository, times(1)).findUserProfileByEmail(email);
+        assertThat(userProjectionCache.profileStats().hitCount()).isEqualTo(1);
+    }
+
     // --- getUserSettingByEmail 메서드 테스트 ---
     @Test
     @DisplayName("사용자 설정 조회 성공")
@@ -171,22 +203,272 @@ class UserServiceTest {
 
     // --- updateUserProfileName 메서드 테스트 ---
     @Test
-    @DisplayName("사용자 프로필 이름 업데이트 성공")
+    @DisplayName("사용자 프로필 이름 업데이트 성공 - 수정 전 상태에 새 이름과 다음 버전을 덮어 응답")
     void updateUserProfileName_Success() throws Exception {
         // Given
         String email = "test@example.com";
         String newName = "UpdatedName";
-        UserProfileDto.Response mockResponse = new UserProfileDto.Response(newName, "/profile.jpg");
-
-        given(userProfileRepository.findUserProfileByEmail(email)).willReturn(mockResponse);
+        given(userProfileRepository.findUserProfileByEmail(email)).willReturn(profile("OldName", 2L));
+        given(userProfileRepository.updateUserName(eq(email), eq(newName), eq(2L),
+            any(Instant.class))).willReturn(1);
 
         // When
         UserProfileDto.Response result = userService.updateUserProfileName(email, newName);
 
         // Then
-        verify(userProfileRepository, times(1)).updateUserName(email, newName);
+        verify(userProfileRepository, times(1)).updateUserName(eq(email), eq(newName), eq(2L),
+            any(Instant.class));
         verify(userProfileRepository, times(1)).findUserProfileByEmail(email);
         assertThat(result.getName()).isEqualTo(newName);
+        assertThat(result.getImage()).isEqualTo("/profile.jpg");
+        assertThat(result.getEmail()).isEqualTo(email);
+        assertThat(result.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름 업데이트 - 이름이 이미 같으면 UPDATE 없이 현재 프로필 반환")
+    void updateUserProfileName_Unchanged_SkipsWrite() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L));
+
+        // When
+        UserProfileDto.Response result = userService.updateUserProfileName(email, "OldName");
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(2L);
+        verify(userProfileRepository, never()).updateUserName(anyString(), anyString(), anyLong(),
+            any());
+        verify(userProfileRepository, times(1)).findUserProfileByEmail(email);
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름 업데이트 - 캐시된 버전이 오래됐으면 DB에서 다시 읽어 한 번 더 시도")
+    void updateUserProfileName_StaleCachedVersion_RetriesWithFreshVersion() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L), profile("OtherNodeName", 5L));
+        given(userProfileRepository.updateUserName(eq(email), eq("NewName"), eq(2L),
+            any(Instant.class))).willReturn(0);
+        given(userProfileRepository.updateUserName(eq(email), eq("NewName"), eq(5L),
+            any(Instant.class))).willReturn(1);
+        userService.getUserProfileByEmail(email);
+
+        // When
+        UserProfileDto.Response result = userService.updateUserProfileName(email, "NewName");
+
+        // Then
+        assertThat(result.getName()).isEqualTo("NewName");
+        assertThat(result.getVersion()).isEqualTo(6L);
+        assertThat(userService.getUserProfileByEmail(email).getVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름 업데이트 실패 - 다시 읽었을 때 행이 없으면 NoSuchElementException")
+    void updateUserProfileName_RowDeleted_Throws() {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L), (UserProfileDto.Response) null);
+        given(userProfileRepository.updateUserName(eq(email), eq("NewName"), eq(2L),
+            any(Instant.class))).willReturn(0);
+
+        // When & Then
+        assertThrows(NoSuchElementException.class,
+            () -> userService.updateUserProfileName(email, "NewName"));
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름 업데이트 실패 - 다시 시도해도 버전이 맞지 않으면 충돌 예외")
+    void updateUserProfileName_ConcurrentModification_Throws() {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L));
+        given(userProfileRepository.updateUserName(eq(email), eq("NewName"), eq(2L),
+            any(Instant.class))).willReturn(0);
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> userService.updateUserProfileName(email, "NewName"));
+        verify(userProfileRepository, times(2)).updateUserName(eq(email), eq("NewName"), eq(2L),
+            any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름 업데이트 - If-Match가 DB의 현재 ETag와 같으면 그 버전을 조건으로 수정")
+    void updateUserProfileName_IfMatchMatches_Updates() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L), profile("OtherNodeName", 5L));
+        given(userProfileRepository.updateUserName(eq(email), eq("NewName"), eq(5L),
+            any(Instant.class))).willReturn(1);
+        userService.getUserProfileByEmail(email);
+
+        // When
+        UserProfileDto.Response result = userService.updateUserProfileName(email, "NewName",
+            "\"7-5\"");
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(6L);
+        verify(userProfileRepository, never()).updateUserName(eq(email), eq("NewName"), eq(2L),
+            any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름/설정 업데이트 실패 - If-Match 버전이 DB와 다르면 쓰지 않고 충돌 예외")
+    void update_IfMatchVersionMismatch_ThrowsWithoutWriting() {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L));
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(4L));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> userService.updateUserProfileName(email, "NewName", "\"7-1\""));
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> userService.updateUserSetting(email,
+                new UserSettingDto.Request.Patch("English", null, null), "\"3-3\""));
+        verify(userProfileRepository, never()).updateUserName(anyString(), anyString(), anyLong(),
+            any());
+        verify(userSettingRepository, never()).updateUserSetting(anyString(), any(), anyLong(),
+            any());
+    }
+
+    @Test
+    @DisplayName("사용자 프로필 이름/설정 업데이트 실패 - 버전이 같아도 다른 행의 ETag면 쓰지 않고 충돌 예외")
+    void update_IfMatchForeignId_ThrowsWithoutWriting() {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 2L));
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(4L));
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> userService.updateUserProfileName(email, "NewName", "\"8-2\""));
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> userService.updateUserSetting(email,
+                new UserSettingDto.Request.Patch("English", null, null), "\"9-4\""));
+        verify(userProfileRepository, never()).updateUserName(anyString(), anyString(), anyLong(),
+            any());
+        verify(userSettingRepository, never()).updateUserSetting(anyString(), any(), anyLong(),
+            any());
+    }
+
+    @Test
+    @DisplayName("프로필 이름/설정 변경 - 변경된 값을 캐시에 써서 다음 조회는 DB를 거치지 않음")
+    void update_WritesThroughToCache() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(profile("OldName", 0L));
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(0L));
+        given(userProfileRepository.updateUserName(eq(email), eq("UpdatedName"), eq(0L),
+            any(Instant.class))).willReturn(1);
+        given(userSettingRepository.updateUserSetting(eq(email), any(), eq(0L),
+            any(Instant.class))).willReturn(1);
+        userService.updateUserProfileName(email, "UpdatedName");
+        userService.updateUserSettingLanguage(email, "English");
+
+        // When
+        UserProfileDto.Response profile = userService.getUserProfileByEmail(email);
+        UserSettingDto.Response setting = userService.getUserSettingByEmail(email);
+
+        // Then
+        assertThat(profile.getName()).isEqualTo("UpdatedName");
+        assertThat(setting.getLanguage()).isEqualTo("English");
+        assertThat(setting.getVersion()).isEqualTo(1L);
+        verify(userProfileRepository, times(1)).findUserProfileByEmail(email);
+        verify(userSettingRepository, times(1)).findUserSettingByEmail(email);
+    }
+
+    // --- updateUserSetting 메서드 테스트 ---
+    @Test
+    @DisplayName("설정 일괄 변경 - 요청한 필드만 UPDATE 한 번으로 쓰고 다시 조회하지 않음")
+    void updateUserSetting_AppliesPatchWithoutReselect() throws Exception {
+        // Given
+        String email = "test@example.com";
+        UserSettingDto.Request.Patch patch =
+            new UserSettingDto.Request.Patch("English", null, "PST -08:00");
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(4L));
+        given(userSettingRepository.updateUserSetting(eq(email), eq(patch), eq(4L),
+            any(Instant.class))).willReturn(1);
+
+        // When
+        UserSettingDto.Response result = userService.updateUserSetting(email, patch);
+
+        // Then
+        assertThat(result.getLanguage()).isEqualTo("English");
+        assertThat(result.getCountry()).isEqualTo("South Korea");
+        assertThat(result.getTimezone()).isEqualTo("PST -08:00");
+        assertThat(result.getVersion()).isEqualTo(5L);
+        verify(userSettingRepository, times(1)).updateUserSetting(eq(email), eq(patch), eq(4L),
+            any(Instant.class));
+        verify(userSettingRepository, times(1)).findUserSettingByEmail(email);
+        assertThat(userService.getUserSettingByEmail(email).getLanguage()).isEqualTo("English");
+    }
+
+    @Test
+    @DisplayName("설정 일괄 변경 - 바꿀 필드가 없으면 쓰지 않고 현재 설정 반환")
+    void updateUserSetting_EmptyPatch_SkipsWrite() throws Exception {
+        // Given
+        String email = "test@example.com";
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(4L));
+
+        // When
+        UserSettingDto.Response result =
+            userService.updateUserSetting(email, new UserSettingDto.Request.Patch());
+
+        // Then
+        assertThat(result.getLanguage()).isEqualTo("Korean");
+        verify(userSettingRepository, never()).updateUserSetting(anyString(), any(), anyLong(),
+            any());
+    }
+
+    @Test
+    @DisplayName("설정 일괄 변경 - 값이 이미 같으면 UPDATE도 재조회도 하지 않고 현재 설정 반환")
+    void updateUserSetting_Unchanged_SkipsWrite() throws Exception {
+        // Given
+        String email = "test@example.com";
+        UserSettingDto.Request.Patch patch = new UserSettingDto.Request.Patch("Korean", null, null);
+        given(userSettingRepository.findUserSettingByEmail(email)).willReturn(setting(4L));
+
+        // When
+        UserSettingDto.Response result = userService.updateUserSetting(email, patch);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(4L);
+        verify(userSettingRepository, never()).updateUserSetting(anyString(), any(), anyLong(),
+            any());
+        verify(userSettingRepository, times(1)).findUserSettingByEmail(email);
+    }
+
+    @Test
+    @DisplayName("설정 일괄 변경 - 캐시와 달라도 DB에서 다시 읽은 값이 같으면 다시 쓰지 않음")
+    void updateUserSetting_StaleCacheAlreadyApplied_DoesNotRetry() throws Exception {
+        // Given
+        String email = "test@example.com";
+        UserSettingDto.Request.Patch patch = new UserSettingDto.Request.Patch("English", null, null);
+        UserSettingDto.Response applied = setting(5L);
+        applied.setLanguage("English");
+        given(userSettingRepository.findUserSettingByEmail(email))
+            .willReturn(setting(4L), applied);
+        given(userSettingRepository.updateUserSetting(eq(email), eq(patch), eq(4L),
+            any(Instant.class))).willReturn(0);
+        userService.getUserSettingByEmail(email);
+
+        // When
+        UserSettingDto.Response result = userService.updateUserSetting(email, patch);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(5L);
+        verify(userSettingRepository, times(1)).updateUserSetting(anyString(), any(), anyLong(),
+            any());
     }
 
     // --- removeUser 메서드 테스트 ---
@@ -201,6 +483,29 @@ class UserServiceTest {
 
         // Then
         verify(userRepository, times(1)).deleteUserByEmail(email); // deleteUserByEmail이 호출되었는지 확인
+        verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent(email));
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트 - 캐시된 프로필과 설정을 비움")
+    void onUserChanged_EvictsCachedProjections() throws Exception {
+        // Given
+        String email = "userToDelete@example.com";
+        given(userProfileRepository.findUserProfileByEmail(email))
+            .willReturn(new UserProfileDto.Response("TestUser", "/profile.jpg"));
+        given(userSettingRepository.findUserSettingByEmail(email))
+            .willReturn(new UserSettingDto.Response("Korean", "South Korea", "KST +09:00"));
+        userService.getUserProfileByEmail(email);
+        userService.getUserSettingByEmail(email);
+
+        // When
+        userProjectionCache.onUserChanged(new UserChangedEvent(email));
+        userService.getUserProfileByEmail(email);
+        userService.getUserSettingByEmail(email);
+
+        // Then
+        verify(userProfileRepository, times(2)).findUserProfileByEmail(email);
+        verify(userSettingRepository, times(2)).findUserSettingByEmail(email);
     }
 
     // --- findUserByEmail 메서드 테스트 ---
@@ -234,4 +539,11 @@ class UserServiceTest {
         verify(userRepository, times(1)).findByEmail(email);
     }
 
-}
\ No newline at end of file
+    private UserProfileDto.Response profile(String name, long version) {
+        return new UserProfileDto.Response(7L, name, "/profile.jpg", version);
+    }
+
+    private UserSettingDto.Response setting(long version) {
+        return new UserSettingDto.Response("Korean", "South Korea", "KST +09:00", 3L, version);
+    }
+}
@@ -0,0 +1,205 @@
+package com.leun.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 발급 서버의 /.well-known/jwks.json을 받아 kid별 공개 키를 메모리에 둔다.
+// 조회는 volatile 참조 하나와 맵 조회로 끝나고, 네트워크 요청은 다음 두 경우에만 한다.
+//  - 마지막으로 받은 지 refresh-interval이 지났을 때
+//  - 모르는 kid를 만났을 때(새 키로 교체된 직후). 단, min-refresh-interval 안에는 다시 받지 않아
+//    위조된 kid로 발급 서버를 두드리는 요청을 막는다.
+// 다시 받을 때는 ETag를 보내 바뀌지 않았으면 304로 끝낸다. 받기에 실패하면 기존 키를 계속 쓴다.
+public final class JwksKeyResolver implements VerificationKeyResolver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // Ed25519 공개 키의 X.509 SubjectPublicKeyInfo 헤더. 뒤에 32바이트 원시 키가 붙는다.
+    private static final byte[] ED25519_X509_PREFIX =
+        HexFormat.of().parseHex("302a300506032b6570032100");
+
+    private final JwksSource source;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile KeySet keySet = new KeySet(Map.of(), null, Instant.EPOCH);
+
+    public JwksKeyResolver(URI jwksUri) {
+        this(jwksUri, HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build(),
+            Duration.ofHours(1), Duration.ofSeconds(30));
+    }
+
+    public JwksKeyResolver(URI jwksUri, HttpClient httpClient, Duration refreshInterval,
+        Duration minRefreshInterval) {
+        this(new HttpJwksSource(jwksUri, httpClient), refreshInterval, minRefreshInterval,
+            Clock.systemUTC());
+    }
+
+    JwksKeyResolver(JwksSource source, Duration refreshInterval, Duration minRefreshInterval,
+        Clock clock) {
+        this.source = source;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public Key resolve(String kid, String algorithm) {
+        if (kid == null) {
+            return null;
+        }
+
+        Instant now = clock.instant();
+        KeySet current = keySet;
+        if (!current.fetchedAt().plus(refreshInterval).isAfter(now)) {
+            current = refresh(current);
+        }
+
+        PublicJwk jwk = current.keys().get(kid);
+        if (jwk == null && !current.fetchedAt().plus(minRefreshInterval).isAfter(now)) {
+            jwk = refresh(current).keys().get(kid);
+        }
+        return jwk != null && jwk.algorithm().equals(algorithm) ? jwk.key() : null;
+    }
+
+    // 동시에 여러 요청이 갱신을 시도하면 한 요청만 받아 오고 나머지는 그 결과를 쓴다.
+    private KeySet refresh(KeySet seen) {
+        refreshLock.lock();
+        try {
+            if (keySet != seen) {
+                return keySet;
+            }
+            Instant now = clock.instant();
+            KeySet refreshed;
+            try {
+                JwksSource.Response response = source.fetch(seen.etag());
+                refreshed = response.notModified()
+                    ? new KeySet(seen.keys(), seen.etag(), now)
+                    : new KeySet(parse(response.body()), response.etag(), now);
+            } catch (IOException | RuntimeException e) {
+                refreshed = new KeySet(seen.keys(), seen.etag(), now);
+            }
+            keySet = refreshed;
+            return refreshed;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 서명용(use=sig) EC P-256, OKP Ed25519 키만 읽고 나머지는 건너뛴다.
+    static Map<String, PublicJwk> parse(byte[] body) throws IOException {
+        Map<String, PublicJwk> keys = new HashMap<>();
+        for (JsonNode jwk : OBJECT_MAPPER.readTree(body).path("keys")) {
+            String kid = jwk.path("kid").asText(null);
+            if (kid == null || !"sig".equals(jwk.path("use").asText("sig"))) {
+                continue;
+            }
+            try {
+                PublicJwk parsed = switch (jwk.path("kty").asText()) {
+                    case "EC" -> "P-256".equals(jwk.path("crv").asText())
+                        ? new PublicJwk("ES256", ecPublicKey(jwk)) : null;
+                    case "OKP" -> "Ed25519".equals(jwk.path("crv").asText())
+                        ? new PublicJwk("EdDSA", ed25519PublicKey(jwk)) : null;
+                    default -> null;
+                };
+                if (parsed != null) {
+                    keys.put(kid, parsed);
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                // 잘못된 키 하나 때문에 나머지 키까지 버리지 않는다.
+            }
+        }
+        return Map.copyOf(keys);
+    }
+
+    private static Key ecPublicKey(JsonNode jwk) throws GeneralSecurityException {
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECPoint point = new ECPoint(unsigned(jwk.path("x").asText()),
+            unsigned(jwk.path("y").asText()));
+        return KeyFactory.getInstance("EC").generatePublic(
+            new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+
+    private static Key ed25519PublicKey(JsonNode jwk) throws GeneralSecurityException {
+        byte[] raw = Base64.getUrlDecoder().decode(jwk.path("x").asText());
+        byte[] encoded = new byte[ED25519_X509_PREFIX.length + raw.length];
+        System.arraycopy(ED25519_X509_PREFIX, 0, encoded, 0, ED25519_X509_PREFIX.length);
+        System.arraycopy(raw, 0, encoded, ED25519_X509_PREFIX.length, raw.length);
+        return KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+    }
+
+    private static BigInteger unsigned(String base64Url) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+    }
+
+    record PublicJwk(String algorithm, Key key) {
+
+    }
+
+    private record KeySet(Map<String, PublicJwk> keys, String etag, Instant fetchedAt) {
+
+    }
+
+    // JWKS 문서를 가져오는 방법. 테스트에서는 HTTP 대신 고정 문서를 돌려준다.
+    interface JwksSource {
+
+        Response fetch(String etag) throws IOException;
+
+        record Response(boolean notModified, byte[] body, String etag) {
+
+        }
+    }
+
+    private record HttpJwksSource(URI jwksUri, HttpClient httpClient) implements JwksSource {
+
+        @Override
+        public Response fetch(String etag) throws IOException {
+            HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(5))
+                .header("Accept", "application/json")
+                .GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request.build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 304) {
+                    return new Response(true, null, etag);
+                }
+                if (response.statusCode() != 200) {
+                    throw new IOException(
+                        "JWKS request failed with status " + response.statusCode());
+                }
+                return new Response(false, response.body(),
+                    response.headers().firstValue("ETag").orElse(null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while fetching JWKS", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.leun.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+// 서명 토큰 검증기. 불변 파서 하나를 모든 요청이 공유하므로 스레드 안전하고, 호출마다 파서나
+// 빌더를 새로 만들지 않는다. 서명되지 않은 토큰(alg=none)은 거부한다.
+public final class TokenVerifier {
+
+    private final JwtParser parser;
+
+    public TokenVerifier(VerificationKeyResolver keyResolver) {
+        this(keyResolver, Duration.ZERO);
+    }
+
+    public TokenVerifier(VerificationKeyResolver keyResolver, Duration allowedClockSkew) {
+        this.parser = Jwts.parser()
+            .keyLocator(new ResolverLocator(keyResolver))
+            .clockSkewSeconds(allowedClockSkew.toSeconds())
+            .build();
+    }
+
+    // 서명이 맞지 않거나 만료됐거나 형식이 잘못된 토큰이면 빈 값을 반환한다.
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            return Optional.of(parse(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // verify와 같지만 실패 원인을 JwtException으로 던진다.
+    public VerifiedToken parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(
+            claims.getSubject(),
+            claims.get(VerifiedToken.USER_ID, Long.class),
+            claims.get(VerifiedToken.ROLE, String.class),
+            claims.get(VerifiedToken.TOKEN_VERSION, Long.class),
+            claims.getId(),
+            toInstant(claims.getIssuedAt()),
+            toInstant(claims.getExpiration()));
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static class ResolverLocator extends LocatorAdapter<Key> {
+
+        private final VerificationKeyResolver keyResolver;
+
+        ResolverLocator(VerificationKeyResolver keyResolver) {
+            this.keyResolver = keyResolver;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            Key key = keyResolver.resolve(header.getKeyId(), header.getAlgorithm());
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.leun.token;
+
+import java.security.Key;
+
+// JWT 헤더의 kid와 alg로 검증 키를 찾는다. 모르는 kid이거나 키의 알고리즘이 alg와 다르면 null을
+// 반환해야 한다. 여러 스레드에서 동시에 호출된다.
+@FunctionalInterface
+public interface VerificationKeyResolver {
+
+    Key resolve(String kid, String algorithm);
+}
@@ -0,0 +1,17 @@
+package com.leun.token;
+
+import java.time.Instant;
+
+// 서명과 만료 검증을 통과한 토큰의 클레임.
+public record VerifiedToken(String email, Long userId, String role, Long tokenVersion, String jti,
+                            Instant issuedAt, Instant expiresAt) {
+
+    public static final String USER_ID = "uid";
+    public static final String ROLE = "role";
+    public static final String TOKEN_VERSION = "ver";
+
+    // Access Token에만 사용자 ID와 권한이 들어 있다.
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null;
+    }
+}
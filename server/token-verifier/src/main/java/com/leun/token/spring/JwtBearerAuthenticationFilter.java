@@ -0,0 +1,49 @@
+package com.leun.token.spring;
+
+import com.leun.token.TokenVerifier;
+import com.leun.token.VerifiedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 다른 서비스용 인증 필터. Bearer 토큰을 로컬에서 검증하고, 토큰에 담긴 이메일과 권한으로
+// 인증 객체를 만든다. 사용자 조회나 발급 서버 호출은 하지 않는다.
+// 폐기 목록/토큰 버전 확인은 발급 서버에만 있으므로, 로그아웃된 토큰도 exp까지는 통과한다.
+public class JwtBearerAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier tokenVerifier;
+
+    public JwtBearerAuthenticationFilter(TokenVerifier tokenVerifier) {
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            tokenVerifier.verify(header.substring(BEARER_PREFIX.length()))
+                .filter(VerifiedToken::hasIdentityClaims)
+                .ifPresent(token -> {
+                    List<SimpleGrantedAuthority> authorities =
+                        List.of(new SimpleGrantedAuthority(token.role()));
+                    User principal = new User(token.email(), "", authorities);
+                    SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, authorities));
+                });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,217 @@
+package com.leun.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leun.token.JwksKeyResolver.JwksSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JwksKeyResolverTest {
+
+    private final KeyPair ecKeys = ecKeyPair();
+    private final KeyPair edKeys = edKeyPair();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    @DisplayName("parse - EC P-256, OKP Ed25519 키를 읽고 HMAC/암호화용 키는 건너뜀")
+    void parse_ReadsSigningKeysOnly() throws IOException {
+        // Given
+        String document = jwks(ecJwk("ec", ecKeys.getPublic()), edJwk("ed", edKeys.getPublic()),
+            "{\"kty\":\"oct\",\"kid\":\"hmac\",\"k\":\"c2VjcmV0\"}",
+            "{\"kty\":\"EC\",\"kid\":\"enc\",\"use\":\"enc\",\"crv\":\"P-256\",\"x\":\"\",\"y\":\"\"}");
+
+        // When
+        Map<String, JwksKeyResolver.PublicJwk> keys =
+            JwksKeyResolver.parse(document.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(keys).containsOnlyKeys("ec", "ed");
+        assertThat(keys.get("ec").algorithm()).isEqualTo("ES256");
+        assertThat(keys.get("ec").key().getEncoded()).isEqualTo(ecKeys.getPublic().getEncoded());
+        assertThat(keys.get("ed").algorithm()).isEqualTo("EdDSA");
+        assertThat(keys.get("ed").key().getEncoded()).isEqualTo(edKeys.getPublic().getEncoded());
+    }
+
+    @Test
+    @DisplayName("resolve - 알고 있는 kid면 다시 받지 않고, alg가 다르면 null 반환")
+    void resolve_KnownKid_UsesCachedKeys() {
+        // Given
+        JwksKeyResolver resolver = resolver(() -> jwks(ecJwk("ec", ecKeys.getPublic())));
+
+        // When & Then
+        assertThat(resolver.resolve("ec", "ES256")).isNotNull();
+        assertThat(resolver.resolve("ec", "ES256")).isNotNull();
+        assertThat(resolver.resolve("ec", "HS256")).isNull();
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("resolve - 모르는 kid면 다시 받되, min-refresh-interval 안에는 다시 받지 않음")
+    void resolve_UnknownKid_RefetchesWithRateLimit() {
+        // Given
+        List<String> documents = List.of(jwks(ecJwk("ec", ecKeys.getPublic())),
+            jwks(ecJwk("ec", ecKeys.getPublic()), edJwk("ed", edKeys.getPublic())));
+        JwksKeyResolver resolver = resolver(
+            () -> documents.get(Math.min(fetches.get() - 1, documents.size() - 1)));
+        resolver.resolve("ec", "ES256");
+
+        // When & Then
+        assertThat(resolver.resolve("forged", "ES256")).isNull();
+        assertThat(fetches).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        assertThat(resolver.resolve("ed", "EdDSA")).isNotNull();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("resolve - 다시 받기에 실패하면 기존 키를 계속 씀")
+    void resolve_FetchFails_KeepsExistingKeys() {
+        // Given
+        JwksKeyResolver resolver = resolver(() -> {
+            if (fetches.get() > 1) {
+                throw new IOException("connection refused");
+            }
+            return jwks(ecJwk("ec", ecKeys.getPublic()));
+        });
+        resolver.resolve("ec", "ES256");
+
+        // When
+        clock.advance(Duration.ofHours(2));
+
+        // Then
+        assertThat(resolver.resolve("ec", "ES256")).isNotNull();
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("resolve - 만료된 뒤 다시 받을 때 ETag를 보내고 304면 기존 키를 씀")
+    void resolve_NotModified_KeepsKeysAndEtag() {
+        // Given
+        AtomicInteger conditional = new AtomicInteger();
+        JwksKeyResolver resolver = new JwksKeyResolver(etag -> {
+            fetches.incrementAndGet();
+            if ("\"v1\"".equals(etag)) {
+                conditional.incrementAndGet();
+                return new JwksSource.Response(true, null, etag);
+            }
+            return new JwksSource.Response(false,
+                jwks(ecJwk("ec", ecKeys.getPublic())).getBytes(StandardCharsets.UTF_8), "\"v1\"");
+        }, Duration.ofHours(1), Duration.ofSeconds(30), clock);
+        resolver.resolve("ec", "ES256");
+
+        // When
+        clock.advance(Duration.ofHours(2));
+
+        // Then
+        assertThat(resolver.resolve("ec", "ES256")).isNotNull();
+        assertThat(conditional).hasValue(1);
+    }
+
+    private JwksKeyResolver resolver(Document document) {
+        return new JwksKeyResolver(etag -> {
+            fetches.incrementAndGet();
+            return new JwksSource.Response(false,
+                document.get().getBytes(StandardCharsets.UTF_8), null);
+        }, Duration.ofHours(1), Duration.ofSeconds(30), clock);
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static String ecJwk(String kid, PublicKey key) {
+        ECPublicKey ecKey = (ECPublicKey) key;
+        return "{\"kty\":\"EC\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"ES256\","
+            + "\"crv\":\"P-256\",\"x\":\"" + coordinate(ecKey.getW().getAffineX().toByteArray())
+            + "\",\"y\":\"" + coordinate(ecKey.getW().getAffineY().toByteArray()) + "\"}";
+    }
+
+    private static String edJwk(String kid, PublicKey key) {
+        byte[] encoded = key.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+        return "{\"kty\":\"OKP\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"EdDSA\","
+            + "\"crv\":\"Ed25519\",\"x\":\"" + base64Url(raw) + "\"}";
+    }
+
+    // BigInteger 바이트 배열을 부호 바이트 없이 32바이트로 맞춘다.
+    private static String coordinate(byte[] value) {
+        byte[] fixed = new byte[32];
+        int length = Math.min(value.length, 32);
+        System.arraycopy(value, value.length - length, fixed, 32 - length, length);
+        return base64Url(fixed);
+    }
+
+    private static String base64Url(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+
+    private static KeyPair ecKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair edKeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface Document {
+
+        String get() throws IOException;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.leun.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenVerifierTest {
+
+    private final KeyPair ecKeys = ecKeyPair();
+    private final KeyPair edKeys = edKeyPair();
+    private final Map<String, KeyPair> keys = Map.of("ec", ecKeys, "ed", edKeys);
+    private final TokenVerifier verifier = new TokenVerifier((kid, algorithm) -> {
+        KeyPair pair = keys.get(kid);
+        if (pair == null) {
+            return null;
+        }
+        String expected = pair == ecKeys ? "ES256" : "EdDSA";
+        return expected.equals(algorithm) ? pair.getPublic() : null;
+    });
+
+    @Test
+    @DisplayName("verify - ES256/EdDSA로 서명된 토큰의 클레임 반환")
+    void verify_ValidToken_ReturnsClaims() {
+        for (String kid : new String[]{"ec", "ed"}) {
+            // Given
+            String token = accessToken(kid, System.currentTimeMillis() + 60_000L);
+
+            // When
+            Optional<VerifiedToken> verified = verifier.verify(token);
+
+            // Then
+            assertThat(verified).isPresent();
+            assertThat(verified.get().email()).isEqualTo("test@example.com");
+            assertThat(verified.get().userId()).isEqualTo(42L);
+            assertThat(verified.get().role()).isEqualTo("ROLE_USER");
+            assertThat(verified.get().tokenVersion()).isEqualTo(3L);
+            assertThat(verified.get().jti()).isEqualTo("jti-1");
+            assertThat(verified.get().hasIdentityClaims()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("verify - 알 수 없는 kid면 빈 값 반환")
+    void verify_UnknownKid_ReturnsEmpty() {
+        // Given
+        String token = Jwts.builder()
+            .header().keyId("missing").and()
+            .subject("test@example.com")
+            .signWith(ecKeys.getPrivate(), Jwts.SIG.ES256)
+            .compact();
+
+        // When & Then
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify - 헤더의 alg가 키의 알고리즘과 다르면 빈 값 반환")
+    void verify_AlgorithmMismatch_ReturnsEmpty() {
+        // Given
+        String token = Jwts.builder()
+            .header().keyId("ec").and()
+            .subject("test@example.com")
+            .signWith(edKeys.getPrivate(), Jwts.SIG.EdDSA)
+            .compact();
+
+        // When & Then
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify - 만료됐거나 서명되지 않은 토큰이면 빈 값 반환")
+    void verify_ExpiredOrUnsigned_ReturnsEmpty() {
+        // Given
+        String expired = accessToken("ec", System.currentTimeMillis() - 1_000L);
+        String unsigned = Jwts.builder().subject("test@example.com").compact();
+
+        // When & Then
+        assertThat(verifier.verify(expired)).isEmpty();
+        assertThat(verifier.verify(unsigned)).isEmpty();
+        assertThat(verifier.verify("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parse - 검증에 실패하면 JwtException을 던짐")
+    void parse_InvalidToken_Throws() {
+        String expired = accessToken("ed", System.currentTimeMillis() - 1_000L);
+
+        assertThatThrownBy(() -> verifier.parse(expired)).isInstanceOf(JwtException.class);
+    }
+
+    private String accessToken(String kid, long expiresAtMillis) {
+        KeyPair pair = keys.get(kid);
+        return Jwts.builder()
+            .header().keyId(kid).and()
+            .id("jti-1")
+            .subject("test@example.com")
+            .claim(VerifiedToken.USER_ID, 42L)
+            .claim(VerifiedToken.ROLE, "ROLE_USER")
+            .claim(VerifiedToken.TOKEN_VERSION, 3L)
+            .issuedAt(new Date(expiresAtMillis - 60_000L))
+            .expiration(new Date(expiresAtMillis))
+            .signWith(pair.getPrivate(), pair == ecKeys ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA)
+            .compact();
+    }
+
+    private static KeyPair ecKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair edKeyPair() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}